@@ -0,0 +1,66 @@
+package tech.nuqta.taskmanagement.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import tech.nuqta.taskmanagement.compression.CompressedText;
+import tech.nuqta.taskmanagement.enums.TaskPriority;
+import tech.nuqta.taskmanagement.enums.TaskStatus;
+import tech.nuqta.taskmanagement.task.dto.TaskDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Jackson serialization of the response envelopes returned by the task endpoints,
+ * with an object mapper configured the way Spring MVC configures its own.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PageResponse<TaskDto> page;
+    private ResponseMessage message;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        var now = LocalDateTime.now();
+        var content = new ArrayList<TaskDto>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(new TaskDto((long) i, now, now, 1L, 1L, "Task " + i,
+                    CompressedText.of("Description of task " + i),
+                    TaskStatus.values()[i % TaskStatus.values().length],
+                    TaskPriority.values()[i % TaskPriority.values().length], 1L, 2L));
+        }
+        page = PageResponse.<TaskDto>builder()
+                .content(content)
+                .pageNumber(0)
+                .pageSize(pageSize)
+                .totalElements(10_000)
+                .totalPages(10_000 / pageSize)
+                .first(true)
+                .last(false)
+                .build();
+        message = new ResponseMessage(content.getFirst(), "Task found");
+    }
+
+    @Benchmark
+    public byte[] pageResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] responseMessage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(message);
+    }
+}
@@ -0,0 +1,81 @@
+package tech.nuqta.taskmanagement.compression;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing and reading a task description stored plain and LZ4-compressed,
+ * for text that resembles the pasted logs and stack traces large descriptions usually contain.
+ * The {@code write} results carry the bytes stored and the bytes of UTF-8 written as secondary counters;
+ * their ratio is the size of the stored form relative to the text.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressedTextBenchmark {
+    @Param({"1024", "16384", "131072"})
+    private int length;
+
+    @Param({"plain", "lz4"})
+    private String storage;
+
+    private int threshold;
+    private String text;
+    private int utf8Length;
+    private byte[] stored;
+
+    @Setup
+    public void setUp() {
+        threshold = storage.equals("lz4") ? 0 : Integer.MAX_VALUE;
+        text = logLikeText(length);
+        utf8Length = text.getBytes(StandardCharsets.UTF_8).length;
+        stored = CompressedText.of(text).toStored(threshold);
+    }
+
+    @Benchmark
+    public byte[] write(Sizes sizes) {
+        var result = CompressedText.of(text).toStored(threshold);
+        sizes.storedBytes += result.length;
+        sizes.utf8Bytes += utf8Length;
+        return result;
+    }
+
+    @Benchmark
+    public String read() {
+        return CompressedText.fromStored(stored).text();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Sizes {
+        public long storedBytes;
+        public long utf8Bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            storedBytes = 0;
+            utf8Bytes = 0;
+        }
+    }
+
+    private static String logLikeText(int length) {
+        var random = new Random(42);
+        var levels = new String[]{"INFO", "WARN", "ERROR", "DEBUG"};
+        var builder = new StringBuilder(length + 128);
+        while (builder.length() < length) {
+            builder.append("2024-08-").append(10 + random.nextInt(20))
+                    .append(" 12:").append(10 + random.nextInt(50)).append(':').append(10 + random.nextInt(50))
+                    .append(' ').append(levels[random.nextInt(levels.length)])
+                    .append(" [task-worker-").append(random.nextInt(8)).append("] ")
+                    .append("tech.nuqta.taskmanagement.task.service.TaskServiceImpl - processed task ")
+                    .append(random.nextInt(100_000)).append(" in ").append(random.nextInt(500)).append(" ms\n");
+        }
+        return builder.substring(0, length);
+    }
+}
@@ -0,0 +1,87 @@
+package tech.nuqta.taskmanagement.email;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import tech.nuqta.taskmanagement.enums.EmailTemplateName;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.mail.javamail.MimeMessageHelper.MULTIPART_MODE_MIXED;
+
+/**
+ * Measures rendered activation emails per second, comparing the {@link EmailTemplateRenderer} pipeline
+ * with building every message from scratch on a template engine that caches parsed templates, as the application's
+ * default engine does. Each message is fully serialized so both sides pay for MIME encoding.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailRenderingBenchmark {
+    private JavaMailSenderImpl mailSender;
+    private EmailTemplateRenderer.RenderBatch renderBatch;
+    private SpringTemplateEngine perMessageEngine;
+    private EmailOutbox email;
+
+    @Setup
+    public void setUp() {
+        mailSender = new JavaMailSenderImpl();
+        renderBatch = new EmailTemplateRenderer(mailSender).newBatch();
+
+        var resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCacheable(true);
+        perMessageEngine = new SpringTemplateEngine();
+        perMessageEngine.setTemplateResolver(resolver);
+
+        email = EmailOutbox.builder()
+                .recipient("user@example.com")
+                .username("Userbek Userjonov")
+                .template(EmailTemplateName.ACTIVATE_ACCOUNT)
+                .confirmationUrl("http://localhost:4200/activate-account")
+                .activationCode("123456")
+                .subject("Account activation")
+                .build();
+    }
+
+    @Benchmark
+    public MimeMessage precompiled() throws MessagingException, IOException {
+        var message = renderBatch.render(email);
+        message.writeTo(OutputStream.nullOutputStream());
+        return message;
+    }
+
+    @Benchmark
+    public MimeMessage perMessage() throws MessagingException, IOException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, MULTIPART_MODE_MIXED, UTF_8.name());
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("username", email.getUsername());
+        properties.put("confirmationUrl", email.getConfirmationUrl());
+        properties.put("activation_code", email.getActivationCode());
+        Context context = new Context();
+        context.setVariables(properties);
+        helper.setFrom("Task Management Email Verification <info@nuqta.tech>");
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(perMessageEngine.process(email.getTemplate().getName(), context), true);
+        message.writeTo(OutputStream.nullOutputStream());
+        return message;
+    }
+}
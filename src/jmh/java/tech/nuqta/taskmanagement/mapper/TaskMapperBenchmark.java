@@ -0,0 +1,58 @@
+package tech.nuqta.taskmanagement.mapper;
+
+import org.openjdk.jmh.annotations.*;
+import tech.nuqta.taskmanagement.compression.CompressedText;
+import tech.nuqta.taskmanagement.enums.TaskPriority;
+import tech.nuqta.taskmanagement.enums.TaskStatus;
+import tech.nuqta.taskmanagement.task.dto.TaskDto;
+import tech.nuqta.taskmanagement.task.entity.TaskEntity;
+import tech.nuqta.taskmanagement.user.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TaskMapper#toDtoList} for page-sized lists of tasks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMapperBenchmark {
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private List<TaskEntity> tasks;
+
+    @Setup
+    public void setUp() {
+        var author = User.builder().id(1L).firstname("Author").build();
+        var assignee = User.builder().id(2L).firstname("Assignee").build();
+        var now = LocalDateTime.now();
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            var task = new TaskEntity();
+            task.setId((long) i);
+            task.setCreatedAt(now);
+            task.setUpdatedAt(now);
+            task.setCreatedBy(1L);
+            task.setModifiedBy(1L);
+            task.setTitle("Task " + i);
+            task.setDescription(CompressedText.of("Description of task " + i));
+            task.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+            task.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+            task.setAuthor(author);
+            task.setAssignee(assignee);
+            tasks.add(task);
+        }
+    }
+
+    @Benchmark
+    public List<TaskDto> toDtoList() {
+        return TaskMapper.toDtoList(tasks);
+    }
+}
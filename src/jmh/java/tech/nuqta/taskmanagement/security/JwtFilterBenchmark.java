@@ -0,0 +1,39 @@
+package tech.nuqta.taskmanagement.security;
+
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link JwtFilter#shouldNotFilter}, which runs for every request, for a skipped auth path,
+ * a skipped documentation path and a protected API path that has to be checked against every pattern.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+    @Param({"/api/v1/auth/authenticate", "/swagger-ui/index.html", "/api/v1/tasks/get-all"})
+    private String servletPath;
+
+    private JwtFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        filter = new JwtFilter(new JwtService(), username -> {
+            throw new UnsupportedOperationException();
+        });
+        request = new MockHttpServletRequest("GET", servletPath);
+        request.setServletPath(servletPath);
+    }
+
+    @Benchmark
+    public boolean shouldNotFilter() throws ServletException {
+        return filter.shouldNotFilter(request);
+    }
+}
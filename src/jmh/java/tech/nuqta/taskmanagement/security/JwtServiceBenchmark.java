@@ -0,0 +1,60 @@
+package tech.nuqta.taskmanagement.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import tech.nuqta.taskmanagement.enums.RoleName;
+import tech.nuqta.taskmanagement.user.entity.User;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building an access token and parsing one back, the two JWT operations on the request path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey",
+                "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(jwtService, "jwtRefreshExpiration", 15_552_000_000L);
+
+        user = User.builder()
+                .id(1L)
+                .firstname("Userbek")
+                .lastname("Userjonov")
+                .email("user@example.com")
+                .enabled(true)
+                .roleMask(RoleName.USER.getMask())
+                .build();
+        token = build();
+    }
+
+    @Benchmark
+    public String build() {
+        var claims = new HashMap<String, Object>();
+        claims.put("fullName", user.getFullName());
+        return jwtService.generateToken(claims, user);
+    }
+
+    @Benchmark
+    public String parse() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return jwtService.isTokenValid(token, user);
+    }
+}
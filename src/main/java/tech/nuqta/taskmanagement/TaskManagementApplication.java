@@ -5,11 +5,14 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import tech.nuqta.taskmanagement.bulkhead.DbBulkheadAspect;
 
 @SpringBootApplication
 @EnableJpaAuditing
 @EnableAsync
-@EnableCaching
+@EnableCaching(order = DbBulkheadAspect.ORDER - 1)
+@EnableScheduling
 public class TaskManagementApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,85 @@
+package tech.nuqta.taskmanagement.async;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * The AsyncConfig class defines one executor per kind of background work, so a burst of one workload
+ * cannot starve the others, and every executor reports queue depth, latency, failures and rejections.
+ * Mail delivery is the only workload so far; a new one gets its own executor bean and entry under
+ * {@code application.async.executors}.
+ * Uncaught exceptions from {@code @Async} methods are logged and counted instead of being lost.
+ */
+@Configuration
+@EnableConfigurationProperties(AsyncProperties.class)
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncConfig implements AsyncConfigurer {
+    public static final String MAIL_EXECUTOR = "mailExecutor";
+
+    private final AsyncProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final BeanFactory beanFactory;
+
+    @Bean(name = MAIL_EXECUTOR)
+    public AsyncTaskExecutor mailExecutor() {
+        return createExecutor(MAIL_EXECUTOR, "mail");
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return beanFactory.getBean(properties.getDefaultExecutor(), Executor.class);
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (exception, method, params) -> {
+            var methodName = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+            log.error("Async method {} failed", methodName, exception);
+            meterRegistry.counter("async.uncaught-exceptions",
+                    "method", methodName,
+                    "exception", exception.getClass().getSimpleName()).increment();
+        };
+    }
+
+    private AsyncTaskExecutor createExecutor(String name, String workload) {
+        var spec = properties.getExecutors().getOrDefault(workload, new AsyncProperties.ExecutorSpec());
+        var decorator = new InstrumentedTaskDecorator(name, meterRegistry);
+
+        if (spec.getType() == AsyncProperties.ExecutorType.VIRTUAL) {
+            var executor = new SimpleAsyncTaskExecutor(name + "-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(spec.getConcurrencyLimit());
+            executor.setTaskDecorator(decorator);
+            executor.setTaskTerminationTimeout(spec.getAwaitTermination().toMillis());
+            return executor;
+        }
+
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(spec.getCorePoolSize());
+        executor.setMaxPoolSize(spec.getMaxPoolSize());
+        executor.setQueueCapacity(spec.getQueueCapacity());
+        executor.setRejectedExecutionHandler(decorator.rejectionHandler(spec.getRejectionPolicy()));
+        executor.setTaskDecorator(decorator);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationMillis(spec.getAwaitTermination().toMillis());
+        Gauge.builder("executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .tag("executor", name)
+                .register(meterRegistry);
+        return executor;
+    }
+}
@@ -0,0 +1,52 @@
+package tech.nuqta.taskmanagement.async;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the named executors used for {@code @Async} work.
+ * Executors are keyed by workload, currently only {@code mail}.
+ * The default executor, used by a plain {@code @Async}, is given by bean name.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.async")
+public class AsyncProperties {
+
+    private String defaultExecutor = AsyncConfig.MAIL_EXECUTOR;
+    private Map<String, ExecutorSpec> executors = new HashMap<>();
+
+    public enum ExecutorType {
+        VIRTUAL,
+        PLATFORM
+    }
+
+    public enum RejectionPolicy {
+        ABORT,
+        CALLER_RUNS,
+        DISCARD,
+        DISCARD_OLDEST
+    }
+
+    /**
+     * Virtual executors start one virtual thread per task and block submitters once {@code concurrencyLimit}
+     * tasks are running. Platform executors use a bounded pool and queue and apply {@code rejectionPolicy}
+     * once both are full.
+     */
+    @Getter
+    @Setter
+    public static class ExecutorSpec {
+        private ExecutorType type = ExecutorType.VIRTUAL;
+        private int concurrencyLimit = 16;
+        private int corePoolSize = 2;
+        private int maxPoolSize = 8;
+        private int queueCapacity = 100;
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+        private Duration awaitTermination = Duration.ofSeconds(30);
+    }
+}
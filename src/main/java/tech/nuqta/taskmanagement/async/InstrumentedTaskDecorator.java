@@ -0,0 +1,128 @@
+package tech.nuqta.taskmanagement.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A task decorator that records, for one named executor, how long tasks wait before they start,
+ * how long they run, how many are waiting or running, and how many fail or are rejected.
+ */
+@Slf4j
+class InstrumentedTaskDecorator implements TaskDecorator {
+    private final String executorName;
+    private final Timer queueWait;
+    private final Timer execution;
+    private final Counter failures;
+    private final Counter rejections;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+
+    InstrumentedTaskDecorator(String executorName, MeterRegistry meterRegistry) {
+        this.executorName = executorName;
+        this.queueWait = Timer.builder("executor.task.queue-wait")
+                .description("Time between task submission and start")
+                .tag("executor", executorName)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.execution = Timer.builder("executor.task.execution")
+                .description("Task execution time")
+                .tag("executor", executorName)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.failures = Counter.builder("executor.task.failures")
+                .tag("executor", executorName)
+                .register(meterRegistry);
+        this.rejections = Counter.builder("executor.task.rejections")
+                .tag("executor", executorName)
+                .register(meterRegistry);
+        Gauge.builder("executor.task.waiting", waiting, AtomicInteger::get)
+                .description("Tasks submitted but not yet started")
+                .tag("executor", executorName)
+                .register(meterRegistry);
+        Gauge.builder("executor.task.active", active, AtomicInteger::get)
+                .description("Tasks currently running")
+                .tag("executor", executorName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        waiting.incrementAndGet();
+        return new InstrumentedTask(runnable, System.nanoTime());
+    }
+
+    /**
+     * Creates a rejection handler for a platform executor that applies the given policy and keeps the
+     * waiting-task gauge accurate for tasks that are dropped.
+     *
+     * @param policy the rejection policy
+     * @return the rejection handler
+     */
+    RejectedExecutionHandler rejectionHandler(AsyncProperties.RejectionPolicy policy) {
+        return (task, executor) -> {
+            rejections.increment();
+            if (executor.isShutdown()) {
+                discard(task);
+                throw new RejectedExecutionException("Executor " + executorName + " is shut down");
+            }
+            switch (policy) {
+                case CALLER_RUNS -> task.run();
+                case DISCARD -> discard(task);
+                case DISCARD_OLDEST -> {
+                    // The task is already decorated, so it goes back on the queue instead of through execute()
+                    discard(executor.getQueue().poll());
+                    if (!executor.getQueue().offer(task)) {
+                        discard(task);
+                    }
+                }
+                case ABORT -> {
+                    discard(task);
+                    throw new RejectedExecutionException("Executor " + executorName + " is saturated");
+                }
+            }
+        };
+    }
+
+    private void discard(Runnable task) {
+        if (task instanceof InstrumentedTask) {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private final class InstrumentedTask implements Runnable {
+        private final Runnable delegate;
+        private final long submittedAt;
+
+        private InstrumentedTask(Runnable delegate, long submittedAt) {
+            this.delegate = delegate;
+            this.submittedAt = submittedAt;
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            waiting.decrementAndGet();
+            queueWait.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+            active.incrementAndGet();
+            try {
+                delegate.run();
+            } catch (RuntimeException | Error e) {
+                failures.increment();
+                log.error("Task on executor {} failed", executorName, e);
+                throw e;
+            } finally {
+                active.decrementAndGet();
+                execution.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -6,7 +6,6 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.mail.MessagingException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -37,7 +36,7 @@ public class AuthenticationController {
     @PostMapping("/register")
     public ResponseEntity<ResponseMessage> register(
             @RequestBody @Valid RegistrationRequest request
-    ) throws MessagingException {
+    ) {
         return ResponseEntity.ok(service.register(request));
     }
 
@@ -67,7 +66,7 @@ public class AuthenticationController {
     @GetMapping("/activate-account")
     public ResponseEntity<ResponseMessage> confirm(
             @RequestParam String token
-    ) throws MessagingException {
+    ) {
         return ResponseEntity.ok(service.activateAccount(token));
     }
 
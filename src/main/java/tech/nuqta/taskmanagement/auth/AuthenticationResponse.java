@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import tech.nuqta.taskmanagement.id.JsonId;
 
 /**
  * Represents an authentication response object.
@@ -14,6 +15,7 @@ import lombok.Setter;
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class AuthenticationResponse {
+    @JsonId
     private Long id;
     private String fullName;
     private String firstName;
@@ -1,7 +1,7 @@
 package tech.nuqta.taskmanagement.auth;
 
 import io.jsonwebtoken.ExpiredJwtException;
-import jakarta.mail.MessagingException;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,38 +10,36 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import tech.nuqta.taskmanagement.bulkhead.BulkheadType;
+import tech.nuqta.taskmanagement.bulkhead.DbBulkhead;
 import tech.nuqta.taskmanagement.common.ResponseMessage;
 import tech.nuqta.taskmanagement.email.EmailService;
 import tech.nuqta.taskmanagement.enums.EmailTemplateName;
 import tech.nuqta.taskmanagement.enums.RoleName;
 import tech.nuqta.taskmanagement.exception.AppBadRequestException;
 import tech.nuqta.taskmanagement.exception.ItemNotFoundException;
-import tech.nuqta.taskmanagement.role.RoleRepository;
 import tech.nuqta.taskmanagement.security.JwtService;
-import tech.nuqta.taskmanagement.token.Token;
-import tech.nuqta.taskmanagement.token.TokenRepository;
+import tech.nuqta.taskmanagement.token.ActivationTokenService;
 import tech.nuqta.taskmanagement.user.entity.User;
 import tech.nuqta.taskmanagement.user.repository.UserRepository;
 
-import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.HashMap;
-import java.util.List;
 
 /**
  * The AuthenticationService class provides methods for user registration, authentication, and account activation.
- * It uses various dependencies such as UserRepository, PasswordEncoder, JwtService, AuthenticationManager, TokenRepository, RoleRepository, and EmailService.
+ * It uses various dependencies such as UserRepository, PasswordEncoder, JwtService, AuthenticationManager, ActivationTokenService and EmailService.
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = "service.method", histogram = true)
 public class AuthenticationService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
-    private final TokenRepository tokenRepository;
-    private final RoleRepository roleRepository;
+    private final ActivationTokenService activationTokenService;
     private final EmailService emailService;
 
     @Value("${application.mailing.frontend.activation-url}")
@@ -52,12 +50,10 @@ public class AuthenticationService {
      *
      * @param request The registration request containing user details.
      * @return A ResponseMessage indicating the success of the registration process.
-     * @throws MessagingException if there is an error sending the validation email.
      */
-    public ResponseMessage register(RegistrationRequest request) throws MessagingException {
-        var userRole = roleRepository.findByName(RoleName.USER)
-                .orElseThrow(() -> new AppBadRequestException("ROLE USER was not initiated"));
-
+    @Transactional
+    @DbBulkhead(BulkheadType.WRITE)
+    public ResponseMessage register(RegistrationRequest request) {
         userRepository.findByEmail(request.getEmail())
                 .ifPresent(u -> {
                     throw new AppBadRequestException("User with email " + request.getEmail() + " already exists");
@@ -69,7 +65,7 @@ public class AuthenticationService {
                 .password(passwordEncoder.encode(request.getPassword()))
                 .accountLocked(false)
                 .enabled(false)
-                .roles(List.of(userRole))
+                .roleMask(RoleName.USER.getMask())
                 .build();
         userRepository.save(user);
         sendValidationEmail(user);
@@ -151,85 +147,41 @@ public class AuthenticationService {
      *
      * @param token the activation token
      * @return the response message indicating the result of the activation process
-     * @throws MessagingException     if an error occurs while sending the validation email
      * @throws AppBadRequestException if the token is invalid or has expired
      * @throws ItemNotFoundException  if the user associated with the token is not found
      */
-    @Transactional
-    public ResponseMessage activateAccount(String token) throws MessagingException {
-        var savedToken = tokenRepository.findByToken(token)
+    @Transactional(noRollbackFor = AppBadRequestException.class)
+    @DbBulkhead(BulkheadType.WRITE)
+    public ResponseMessage activateAccount(String token) {
+        var activationCode = activationTokenService.redeem(token)
                 .orElseThrow(() -> new AppBadRequestException("Invalid token"));
-        if (LocalDateTime.now().isAfter(savedToken.getExpiresAt())) {
-            sendValidationEmail(savedToken.getUser());
+        var user = userRepository.findById(activationCode.userId())
+                .orElseThrow(() -> new ItemNotFoundException("User not found"));
+        if (activationCode.isExpired(LocalDateTime.now())) {
+            sendValidationEmail(user);
             throw new AppBadRequestException("Activation token has expired. A new token has been sent to the same email address");
         }
 
-        var user = userRepository.findById(savedToken.getUser().getId())
-                .orElseThrow(() -> new ItemNotFoundException("User not found"));
         user.setEnabled(true);
         userRepository.save(user);
-
-        savedToken.setValidatedAt(LocalDateTime.now());
-        tokenRepository.save(savedToken);
         return new ResponseMessage("Account activated successfully");
     }
 
     /**
-     * Generates an activation token for the given user and saves it in the token repository.
-     *
-     * @param user The user for whom the activation token is being generated and saved.
-     * @return The generated activation token.
-     */
-    private String generateAndSaveActivationToken(User user) {
-        String generatedToken = generateActivationCode(6);
-        var token = Token.builder()
-                .token(generatedToken)
-                .createdAt(LocalDateTime.now())
-                .expiresAt(LocalDateTime.now().plusMinutes(5))
-                .user(user)
-                .build();
-        tokenRepository.save(token);
-
-        return generatedToken;
-    }
-
-    /**
-     * Sends a validation email to the user.
+     * Queues a validation email to the user in the current transaction.
      *
      * @param user The user object to whom the validation email will be sent
-     * @throws MessagingException If an error occurs while sending the email
      */
-    private void sendValidationEmail(User user) throws MessagingException {
-        var newToken = generateAndSaveActivationToken(user);
+    private void sendValidationEmail(User user) {
+        var activationCode = activationTokenService.issue(user);
 
-        emailService.sendEmail(
+        emailService.queueEmail(
                 user.getEmail(),
                 user.getFullName(),
                 EmailTemplateName.ACTIVATE_ACCOUNT,
                 activationUrl,
-                newToken,
+                activationCode.code(),
                 "Account activation"
         );
     }
-
-    /**
-     * Generates an activation code with the specified length.
-     *
-     * @param length the length of the activation code
-     * @return the generated activation code as a string
-     */
-    private String generateActivationCode(int length) {
-        var characters = "0123456789";
-        var codeBuilder = new StringBuilder();
-
-
-        var secureRandom = new SecureRandom();
-
-        for (int i = 0; i < length; i++) {
-            int randomIndex = secureRandom.nextInt(characters.length());
-            codeBuilder.append(characters.charAt(randomIndex));
-        }
-
-        return codeBuilder.toString();
-    }
 }
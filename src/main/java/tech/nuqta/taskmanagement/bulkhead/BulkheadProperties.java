@@ -0,0 +1,36 @@
+package tech.nuqta.taskmanagement.bulkhead;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuration of the database bulkheads. The permits of all bulkheads together should stay below
+ * the size of the connection pool, so a permit holder never waits for a connection, and leave room for the work
+ * that takes connections without a permit:
+ * <ul>
+ *     <li>login and token refresh, which use a connection per statement only, and the JWT filter's user lookup;</li>
+ *     <li>the scheduled jobs (outbox poll, partition maintenance, archiver, purge, activation code eviction),
+ *     which share the single scheduler thread and so hold at most one connection between them,
+ *     apart from the purge, which keeps a second one for its lock;</li>
+ *     <li>outbox deliveries started on the mail executor, each holding a connection only to claim a batch
+ *     and to record its results.</li>
+ * </ul>
+ * The defaults give the bulkheads 7 of the 10 pooled connections.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+    private Duration maxWait = Duration.ofMillis(500);
+    private Map<BulkheadType, Integer> permits = new EnumMap<>(Map.of(
+            BulkheadType.READ, 4,
+            BulkheadType.WRITE, 3
+    ));
+}
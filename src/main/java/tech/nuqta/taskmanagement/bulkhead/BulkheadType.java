@@ -0,0 +1,9 @@
+package tech.nuqta.taskmanagement.bulkhead;
+
+/**
+ * The kinds of database work that get separate bulkheads, so one kind cannot take every connection.
+ */
+public enum BulkheadType {
+    READ,
+    WRITE
+}
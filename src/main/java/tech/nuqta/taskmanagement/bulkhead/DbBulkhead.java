@@ -0,0 +1,15 @@
+package tech.nuqta.taskmanagement.bulkhead;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a service method that needs a database connection. The call waits for a permit of the given
+ * bulkhead for at most the configured time and fails with a {@code 503} response if none becomes free.
+ * Calls nested inside another bulkhead call on the same thread reuse the outer permit.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DbBulkhead {
+    BulkheadType value();
+}
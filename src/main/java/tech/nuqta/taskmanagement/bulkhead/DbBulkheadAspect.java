@@ -0,0 +1,109 @@
+package tech.nuqta.taskmanagement.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import tech.nuqta.taskmanagement.deadline.RequestDeadline;
+import tech.nuqta.taskmanagement.exception.DatabaseBusyException;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The DbBulkheadAspect class limits how many {@link DbBulkhead} calls of each type may use the database at once.
+ * Each bulkhead is a fair semaphore, so waiting callers are served in arrival order. It runs inside the cache
+ * interceptor, so cache hits need no permit, and outside the transaction interceptor, so a permit is held
+ * before a connection is taken. A caller never waits past its request deadline.
+ * Waiting callers, wait times and rejections are published per bulkhead.
+ */
+@Aspect
+@Component
+@Order(DbBulkheadAspect.ORDER)
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class DbBulkheadAspect {
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    private static final ThreadLocal<BulkheadType> HELD = new ThreadLocal<>();
+
+    private final BulkheadProperties properties;
+    private final Map<BulkheadType, Compartment> compartments = new EnumMap<>(BulkheadType.class);
+
+    public DbBulkheadAspect(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (var type : BulkheadType.values()) {
+            int permits = properties.getPermits().getOrDefault(type, 1);
+            compartments.put(type, new Compartment(type, permits, meterRegistry));
+        }
+    }
+
+    @Around("@annotation(bulkhead)")
+    public Object limit(ProceedingJoinPoint joinPoint, DbBulkhead bulkhead) throws Throwable {
+        if (!properties.isEnabled() || HELD.get() != null) {
+            return joinPoint.proceed();
+        }
+        var compartment = compartments.get(bulkhead.value());
+        long maxWaitNanos = properties.getMaxWait().toNanos();
+        var deadline = RequestDeadline.current();
+        if (deadline != null) {
+            maxWaitNanos = Math.min(maxWaitNanos, Math.max(0, deadline.remaining().toNanos()));
+        }
+        compartment.acquire(maxWaitNanos);
+        HELD.set(bulkhead.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            HELD.remove();
+            compartment.semaphore.release();
+        }
+    }
+
+    private static final class Compartment {
+        private final String name;
+        private final Semaphore semaphore;
+        private final Timer waitTimer;
+        private final Counter rejections;
+
+        private Compartment(BulkheadType type, int permits, MeterRegistry meterRegistry) {
+            this.name = type.name().toLowerCase(Locale.ROOT);
+            this.semaphore = new Semaphore(permits, true);
+            this.waitTimer = Timer.builder("db.bulkhead.wait")
+                    .description("Time spent waiting for a bulkhead permit")
+                    .tag("bulkhead", name)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.rejections = Counter.builder("db.bulkhead.rejections")
+                    .description("Calls rejected because no permit became free in time")
+                    .tag("bulkhead", name)
+                    .register(meterRegistry);
+            Gauge.builder("db.bulkhead.waiting", semaphore, Semaphore::getQueueLength)
+                    .description("Calls waiting for a permit")
+                    .tag("bulkhead", name)
+                    .register(meterRegistry);
+            Gauge.builder("db.bulkhead.available", semaphore, Semaphore::availablePermits)
+                    .description("Permits currently free")
+                    .tag("bulkhead", name)
+                    .register(meterRegistry);
+        }
+
+        private void acquire(long maxWaitNanos) throws InterruptedException {
+            long start = System.nanoTime();
+            boolean acquired = semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                rejections.increment();
+                throw new DatabaseBusyException("The " + name + " database capacity is exhausted, please retry later");
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package tech.nuqta.taskmanagement.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Looks up and stores many entries of a Spring {@link Cache} at once. Caches that can do so natively implement
+ * this interface; {@link #of(Cache)} adapts any other cache with one call per key.
+ */
+public interface BulkCache {
+
+    /**
+     * Looks up many keys at once.
+     *
+     * @return the present entries, with stored values; keys without an entry are left out
+     */
+    Map<Object, Object> getAllPresent(Collection<?> keys);
+
+    /**
+     * Stores many entries at once.
+     */
+    void putAll(Map<?, ?> entries);
+
+    static BulkCache of(Cache cache) {
+        if (cache instanceof BulkCache bulkCache) {
+            return bulkCache;
+        }
+        return new BulkCache() {
+            @Override
+            public Map<Object, Object> getAllPresent(Collection<?> keys) {
+                Map<Object, Object> present = new HashMap<>(keys.size());
+                for (var key : keys) {
+                    var value = cache.get(key);
+                    if (value != null) {
+                        present.put(key, value.get());
+                    }
+                }
+                return present;
+            }
+
+            @Override
+            public void putAll(Map<?, ?> entries) {
+                entries.forEach(cache::put);
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package tech.nuqta.taskmanagement.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * The SecondLevelCacheConfig class backs the Hibernate second-level cache with Caffeine through JCache.
+ * Every region is created up front with the size and time to live from {@link SecondLevelCacheProperties},
+ * and Hibernate fails on start if an entity names a region that is not listed here.
+ * Hit, miss and put counts per region are published by the Hibernate metrics; size and evictions by {@link JCacheMetrics}.
+ * <p>
+ * Each application context gets a cache manager of its own, under a URI nobody else uses, that is closed with the context;
+ * the provider's default manager is shared by the whole JVM, so a second context would find the regions taken.
+ * The cache is local to each instance: a change made on one instance is not seen by the others until the entry expires,
+ * which is why the {@code users} region, whose entries carry roles and the locked flag, lives only briefly.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+@ConditionalOnProperty(prefix = "application.second-level-cache", name = "enabled", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+    public static final String USERS = "users";
+    public static final String TASKS = "tasks";
+    public static final String COMMENTS = "comments";
+
+    private static final List<String> REGIONS = List.of(USERS, TASKS, COMMENTS);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties, MeterRegistry meterRegistry) {
+        var provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        var uri = URI.create("hibernate-second-level-cache:" + UUID.randomUUID());
+        var cacheManager = provider.getCacheManager(uri, provider.getDefaultClassLoader());
+        for (var region : REGIONS) {
+            var spec = properties.getRegions().getOrDefault(region, properties.getDefaults());
+            var configuration = new CaffeineConfiguration<Object, Object>();
+            configuration.setMaximumSize(OptionalLong.of(spec.getMaximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(spec.getTimeToLive().toNanos()));
+            configuration.setStatisticsEnabled(true);
+            JCacheMetrics.monitor(meterRegistry, cacheManager.createCache(region, configuration), "layer", "hibernate");
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package tech.nuqta.taskmanagement.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the Hibernate second-level cache. Regions are keyed by the names in {@link SecondLevelCacheConfig};
+ * a region without its own entry uses the defaults.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.second-level-cache")
+public class SecondLevelCacheProperties {
+
+    private boolean enabled = true;
+    private Region defaults = new Region();
+    private Map<String, Region> regions = new HashMap<>();
+
+    /**
+     * Entries are dropped once a region holds {@code maximumSize} of them, and {@code timeToLive} after they were written,
+     * which bounds how long another application instance can serve an entry that was changed elsewhere.
+     */
+    @Getter
+    @Setter
+    public static class Region {
+        private long maximumSize = 10_000;
+        private Duration timeToLive = Duration.ofMinutes(10);
+    }
+}
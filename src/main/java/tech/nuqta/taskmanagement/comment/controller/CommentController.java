@@ -79,8 +79,9 @@ public class CommentController {
                             schema = @Schema(implementation = PageResponse.class)) })
     })
     @GetMapping("/all")
-    public ResponseEntity<PageResponse<CommentDto>> getAllComments(@RequestParam int page, @RequestParam int size) {
-        return ResponseEntity.ok(commentService.getAllComments(page, size));
+    public ResponseEntity<PageResponse<CommentDto>> getAllComments(@RequestParam int page, @RequestParam int size,
+                                                               @RequestParam(defaultValue = "false") boolean summary) {
+        return ResponseEntity.ok(commentService.getAllComments(page, size, summary));
     }
 
     @Operation(summary = "Get all comments for a specific task with pagination")
@@ -91,8 +92,9 @@ public class CommentController {
     })
     @GetMapping("/by-task/{taskId}")
     public ResponseEntity<PageResponse<CommentDto>> getCommentsByTask(@RequestParam Long taskId,
-                                                                      @RequestParam int page, @RequestParam int size) {
-        return ResponseEntity.ok(commentService.getCommentsByTask(taskId, page, size));
+                                                                      @RequestParam int page, @RequestParam int size,
+                                                                      @RequestParam(defaultValue = "false") boolean summary) {
+        return ResponseEntity.ok(commentService.getCommentsByTask(taskId, page, size, summary));
     }
 
     @Operation(summary = "Get all comments by a specific author with pagination")
@@ -103,8 +105,9 @@ public class CommentController {
     })
     @GetMapping("/by-author/{authorId}")
     public ResponseEntity<PageResponse<CommentDto>> getCommentsByAuthor(@RequestParam Long authorId,
-                                                                        @RequestParam int page, @RequestParam int size) {
-        return ResponseEntity.ok(commentService.getCommentsByAuthor(authorId, page, size));
+                                                                        @RequestParam int page, @RequestParam int size,
+                                                                        @RequestParam(defaultValue = "false") boolean summary) {
+        return ResponseEntity.ok(commentService.getCommentsByAuthor(authorId, page, size, summary));
     }
 
     @Operation(summary = "Get comments by task and author with pagination")
@@ -116,7 +119,8 @@ public class CommentController {
     @GetMapping("/by-task-and-author")
     public ResponseEntity<PageResponse<CommentDto>> getCommentsByTaskAndAuthor(@RequestParam Long taskId,
                                                                                @RequestParam Long authorId,
-                                                                               @RequestParam int page, @RequestParam int size) {
-        return ResponseEntity.ok(commentService.getCommentsByTaskAndAuthor(taskId, authorId, page, size));
+                                                                               @RequestParam int page, @RequestParam int size,
+                                                                               @RequestParam(defaultValue = "false") boolean summary) {
+        return ResponseEntity.ok(commentService.getCommentsByTaskAndAuthor(taskId, authorId, page, size, summary));
     }
 }
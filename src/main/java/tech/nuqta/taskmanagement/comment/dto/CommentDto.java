@@ -1,21 +1,34 @@
 package tech.nuqta.taskmanagement.comment.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import tech.nuqta.taskmanagement.compression.CompressedText;
 import tech.nuqta.taskmanagement.comment.entity.CommentEntity;
+import tech.nuqta.taskmanagement.id.JsonId;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
 
 /**
- * DTO for {@link CommentEntity}
+ * DTO for {@link CommentEntity}. Summaries leave out the content, which is then omitted from the JSON as well.
+ * The content stays in its stored, possibly compressed form until the DTO is serialized.
  */
 public record CommentDto(
-        Long id,
+        @JsonId Long id,
         LocalDateTime createdAt,
         LocalDateTime updatedAt,
-        Long createdBy,
-        Long modifiedBy,
-        String content,
-        Long taskId,
-        Long authorId
+        @JsonId Long createdBy,
+        @JsonId Long modifiedBy,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        CompressedText content,
+        @JsonId Long taskId,
+        @JsonId Long authorId
 ) implements Serializable {
-}
\ No newline at end of file
+
+    /**
+     * Creates a summary, used by the summary list queries.
+     */
+    public CommentDto(Long id, LocalDateTime createdAt, LocalDateTime updatedAt, Long createdBy, Long modifiedBy,
+                      Long taskId, Long authorId) {
+        this(id, createdAt, updatedAt, createdBy, modifiedBy, null, taskId, authorId);
+    }
+}
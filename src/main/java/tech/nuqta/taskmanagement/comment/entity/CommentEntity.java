@@ -3,23 +3,31 @@ package tech.nuqta.taskmanagement.comment.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import tech.nuqta.taskmanagement.cache.SecondLevelCacheConfig;
 import tech.nuqta.taskmanagement.common.BaseEntity;
+import tech.nuqta.taskmanagement.compression.CompressedText;
+import tech.nuqta.taskmanagement.compression.CompressedTextConverter;
 import tech.nuqta.taskmanagement.task.entity.TaskEntity;
 import tech.nuqta.taskmanagement.user.entity.User;
 
 @Getter
 @Setter
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.COMMENTS)
 @Entity
 @Table(name = "comments")
 public class CommentEntity extends BaseEntity {
-    @Column(columnDefinition = "TEXT")
-    private String content;
+    @Basic(fetch = FetchType.LAZY)
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "bytea")
+    private CompressedText content;
 
-    @ManyToOne
-    @JoinColumn(name = "task_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private TaskEntity task;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id")
     private User author;
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package tech.nuqta.taskmanagement.comment.repository;
+
+import tech.nuqta.taskmanagement.comment.entity.CommentEntity;
+
+import java.util.Optional;
+
+/**
+ * Finds a comment by ID in the partitions its ID allows for, see {@link tech.nuqta.taskmanagement.partition.CreatedAtRange}.
+ */
+public interface CommentPartitionLookup {
+
+    Optional<CommentEntity> findPartitionedById(Long id);
+}
@@ -0,0 +1,18 @@
+package tech.nuqta.taskmanagement.comment.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import tech.nuqta.taskmanagement.comment.entity.CommentEntity;
+import tech.nuqta.taskmanagement.partition.CreatedAtRange;
+
+import java.util.Optional;
+
+class CommentPartitionLookupImpl implements CommentPartitionLookup {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<CommentEntity> findPartitionedById(Long id) {
+        return CreatedAtRange.find(entityManager, CommentEntity.class, id);
+    }
+}
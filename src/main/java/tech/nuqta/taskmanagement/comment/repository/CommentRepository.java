@@ -1,32 +1,61 @@
 package tech.nuqta.taskmanagement.comment.repository;
 
-import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import tech.nuqta.taskmanagement.comment.dto.CommentDto;
 import tech.nuqta.taskmanagement.comment.entity.CommentEntity;
-import tech.nuqta.taskmanagement.task.entity.TaskEntity;
 
-import java.util.Optional;
-
-public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
-
-
-    @Override
-    @Transactional
-    @Query("SELECT c FROM CommentEntity c WHERE c.isDeleted = false")
-    Page<CommentEntity> findAll(Pageable pageable);
-
-    @Transactional
-    @Query("SELECT c FROM CommentEntity c WHERE c.task.id = :taskId AND c.isDeleted = false")
-    Page<CommentEntity> findAllByTaskId(Long taskId, Pageable pageable);
-
-    @Transactional
-    @Query("SELECT c FROM CommentEntity c WHERE c.author.id = :authorId AND c.isDeleted = false")
-    Page<CommentEntity> findAllByAuthorId(Long authorId, Pageable pageable);
-
-    @Transactional
-    @Query("SELECT c FROM CommentEntity c WHERE c.task.id = :taskId AND c.author.id = :authorId AND c.isDeleted = false")
-    Page<CommentEntity> findAllByTaskIdAndAuthorId(Long taskId, Long authorId, Pageable pageable);
-}
\ No newline at end of file
+/**
+ * Comment lists are read as {@link CommentDto} projections, so only the selected columns leave the database
+ * and no entities are put in the persistence context. Summaries do not select the content.
+ * The table is partitioned by month of {@code created_at}; queries bound it where they can,
+ * and lookups by ID go through {@link #findPartitionedById(Long)}.
+ */
+public interface CommentRepository extends JpaRepository<CommentEntity, Long>, CommentPartitionLookup {
+    String SELECT_COMMENT = """
+            SELECT new tech.nuqta.taskmanagement.comment.dto.CommentDto(c.id, c.createdAt, c.updatedAt, c.createdBy, c.modifiedBy,
+                c.content, c.task.id, c.author.id)
+            FROM CommentEntity c
+            """;
+    String SELECT_SUMMARY = """
+            SELECT new tech.nuqta.taskmanagement.comment.dto.CommentDto(c.id, c.createdAt, c.updatedAt, c.createdBy, c.modifiedBy,
+                c.task.id, c.author.id)
+            FROM CommentEntity c
+            """;
+    /**
+     * Comments are never older than their task, so this bound lets PostgreSQL skip the partitions
+     * from before the task was created.
+     */
+    String AFTER_TASK = "c.createdAt >= (SELECT t.createdAt FROM TaskEntity t WHERE t.id = :taskId)";
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_COMMENT + "WHERE c.isDeleted = false")
+    Page<CommentDto> findAllByIsDeletedFalse(Pageable pageable);
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + "WHERE c.isDeleted = false")
+    Page<CommentDto> findSummariesByIsDeletedFalse(Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_COMMENT + "WHERE c.task.id = :taskId AND c.isDeleted = false AND " + AFTER_TASK)
+    Page<CommentDto> findAllByTaskId(Long taskId, Pageable pageable);
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + "WHERE c.task.id = :taskId AND c.isDeleted = false AND " + AFTER_TASK)
+    Page<CommentDto> findSummariesByTaskId(Long taskId, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_COMMENT + "WHERE c.author.id = :authorId AND c.isDeleted = false")
+    Page<CommentDto> findAllByAuthorId(Long authorId, Pageable pageable);
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + "WHERE c.author.id = :authorId AND c.isDeleted = false")
+    Page<CommentDto> findSummariesByAuthorId(Long authorId, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_COMMENT + "WHERE c.task.id = :taskId AND c.author.id = :authorId AND c.isDeleted = false AND " + AFTER_TASK)
+    Page<CommentDto> findAllByTaskIdAndAuthorId(Long taskId, Long authorId, Pageable pageable);
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + "WHERE c.task.id = :taskId AND c.author.id = :authorId AND c.isDeleted = false AND " + AFTER_TASK)
+    Page<CommentDto> findSummariesByTaskIdAndAuthorId(Long taskId, Long authorId, Pageable pageable);
+}
@@ -12,9 +12,9 @@ public interface CommentService {
     ResponseMessage deleteComment(Long commentId, Authentication connectedUser);
     ResponseMessage updateComment(CommentUpdateRequest request, Authentication connectedUser);
     ResponseMessage getComment(Long commentId);
-    PageResponse<CommentDto> getAllComments(int page, int size);
-    PageResponse<CommentDto> getCommentsByTask(Long taskId, int page, int size);
-    PageResponse<CommentDto> getCommentsByAuthor(Long authorId, int page, int size);
-    PageResponse<CommentDto> getCommentsByTaskAndAuthor(Long taskId, Long authorId, int page, int size);
+    PageResponse<CommentDto> getAllComments(int page, int size, boolean summary);
+    PageResponse<CommentDto> getCommentsByTask(Long taskId, int page, int size, boolean summary);
+    PageResponse<CommentDto> getCommentsByAuthor(Long authorId, int page, int size, boolean summary);
+    PageResponse<CommentDto> getCommentsByTaskAndAuthor(Long taskId, Long authorId, int page, int size, boolean summary);
 
 }
@@ -1,5 +1,6 @@
 package tech.nuqta.taskmanagement.comment.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -9,13 +10,17 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import tech.nuqta.taskmanagement.comment.dto.CommentDto;
 import tech.nuqta.taskmanagement.comment.dto.request.CommentCreateRequest;
 import tech.nuqta.taskmanagement.comment.dto.request.CommentUpdateRequest;
 import tech.nuqta.taskmanagement.comment.entity.CommentEntity;
 import tech.nuqta.taskmanagement.comment.repository.CommentRepository;
+import tech.nuqta.taskmanagement.bulkhead.BulkheadType;
+import tech.nuqta.taskmanagement.bulkhead.DbBulkhead;
 import tech.nuqta.taskmanagement.common.PageResponse;
 import tech.nuqta.taskmanagement.common.ResponseMessage;
+import tech.nuqta.taskmanagement.compression.CompressedText;
 import tech.nuqta.taskmanagement.exception.ItemNotFoundException;
 import tech.nuqta.taskmanagement.exception.OperationNotPermittedException;
 import tech.nuqta.taskmanagement.mapper.CommentMapper;
@@ -37,6 +42,7 @@ import tech.nuqta.taskmanagement.user.repository.UserRepository;
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = "service.method", histogram = true)
 @Slf4j
 public class CommentServiceImpl implements CommentService {
     private final TaskRepository taskRepository;
@@ -54,10 +60,12 @@ public class CommentServiceImpl implements CommentService {
      */
     @Override
     @CacheEvict(value = "comments", allEntries = true)
+    @Transactional
+    @DbBulkhead(BulkheadType.WRITE)
     public ResponseMessage addComment(CommentCreateRequest request, Authentication connectedUser) {
         var author = userRepository.findById(request.getAuthorId()).orElseThrow(
                 () -> new ItemNotFoundException("User not found"));
-        var task = taskRepository.findById(request.getTaskId()).orElseThrow(
+        var task = taskRepository.findActiveById(request.getTaskId()).orElseThrow(
                 () -> new ItemNotFoundException("Task not found"));
         var user = (User) connectedUser.getPrincipal();
         if (!user.getId().equals(author.getId())) {
@@ -66,7 +74,7 @@ public class CommentServiceImpl implements CommentService {
         var comment = new CommentEntity();
         comment.setAuthor(author);
         comment.setTask(task);
-        comment.setContent(request.getContent());
+        comment.setContent(CompressedText.of(request.getContent()));
         commentRepository.save(comment);
         log.info("Comment added successfully by user {}", author.getId());
         return new ResponseMessage("Comment added successfully");
@@ -84,8 +92,10 @@ public class CommentServiceImpl implements CommentService {
      */
     @Override
     @CacheEvict(value = "comments", allEntries = true)
+    @Transactional
+    @DbBulkhead(BulkheadType.WRITE)
     public ResponseMessage deleteComment(Long commentId, Authentication connectedUser) {
-        var comment = commentRepository.findById(commentId).orElseThrow(
+        var comment = commentRepository.findPartitionedById(commentId).orElseThrow(
                 () -> new ItemNotFoundException("Comment not found"));
         var user = (User) connectedUser.getPrincipal();
         if (!user.getId().equals(comment.getAuthor().getId())) {
@@ -110,14 +120,16 @@ public class CommentServiceImpl implements CommentService {
      */
     @Override
     @CacheEvict(value = "comments", allEntries = true)
+    @Transactional
+    @DbBulkhead(BulkheadType.WRITE)
     public ResponseMessage updateComment(CommentUpdateRequest request, Authentication connectedUser) {
-        var comment = commentRepository.findById(request.getId()).orElseThrow(
+        var comment = commentRepository.findPartitionedById(request.getId()).orElseThrow(
                 () -> new ItemNotFoundException("Comment not found"));
         var user = (User) connectedUser.getPrincipal();
         if (!user.getId().equals(comment.getAuthor().getId())) {
             throw new OperationNotPermittedException("You are not allowed to update this comment");
         }
-        comment.setContent(request.getContent());
+        comment.setContent(CompressedText.of(request.getContent()));
         commentRepository.save(comment);
         log.info("Comment updated successfully by user {}", user.getId());
         return new ResponseMessage("Comment updated successfully");
@@ -134,8 +146,10 @@ public class CommentServiceImpl implements CommentService {
      */
     @Override
     @Cacheable("comments")
+    @Transactional(readOnly = true)
+    @DbBulkhead(BulkheadType.READ)
     public ResponseMessage getComment(Long commentId) {
-        var comment = commentRepository.findById(commentId).orElseThrow(
+        var comment = commentRepository.findPartitionedById(commentId).orElseThrow(
                 () -> new ItemNotFoundException("Comment not found"));
         log.info("Comment retrieved successfully with id {}", commentId);
         return new ResponseMessage(CommentMapper.toDto(comment), "Comment retrieved successfully");
@@ -147,6 +161,7 @@ public class CommentServiceImpl implements CommentService {
      *
      * @param page The page number of the comments to be retrieved. Must be greater than 0.
      * @param size The number of comments to be retrieved per page. Must be greater than 0.
+     * @param summary Whether to leave out the content of the comments.
      * @return A PageResponse object containing a list of CommentDto objects representing the retrieved comments,
      *         along with pagination information.
      * @see PageResponse
@@ -155,12 +170,16 @@ public class CommentServiceImpl implements CommentService {
      */
     @Override
     @Cacheable("comments")
-    public PageResponse<CommentDto> getAllComments(int page, int size) {
+    @Transactional(readOnly = true)
+    @DbBulkhead(BulkheadType.READ)
+    public PageResponse<CommentDto> getAllComments(int page, int size, boolean summary) {
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by("createdAt").descending());
-        var comments = commentRepository.findAll(pageable);
+        var comments = summary
+                ? commentRepository.findSummariesByIsDeletedFalse(pageable)
+                : commentRepository.findAllByIsDeletedFalse(pageable);
         log.info("All comments retrieved successfully for page {} and size {}", page, size);
         return new PageResponse<>(
-                CommentMapper.toDtoList(comments.getContent()),
+                comments.getContent(),
                 comments.getNumber() + 1,
                 comments.getSize(),
                 comments.getTotalElements(),
@@ -176,16 +195,21 @@ public class CommentServiceImpl implements CommentService {
      * @param taskId the ID of the task for which to retrieve comments
      * @param page   the page number to retrieve (1-based index)
      * @param size   the number of comments per page
+     * @param summary whether to leave out the content of the comments
      * @return a {@link PageResponse} containing the comments on the specified task
      */
     @Override
     @Cacheable("comments")
-    public PageResponse<CommentDto> getCommentsByTask(Long taskId, int page, int size) {
+    @Transactional(readOnly = true)
+    @DbBulkhead(BulkheadType.READ)
+    public PageResponse<CommentDto> getCommentsByTask(Long taskId, int page, int size, boolean summary) {
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by("createdAt").descending());
-        var comments = commentRepository.findAllByTaskId(taskId, pageable);
+        var comments = summary
+                ? commentRepository.findSummariesByTaskId(taskId, pageable)
+                : commentRepository.findAllByTaskId(taskId, pageable);
         log.info("Comments retrieved successfully for task {} with page {} and size {}", taskId, page, size);
         return new PageResponse<>(
-                CommentMapper.toDtoList(comments.getContent()),
+                comments.getContent(),
                 comments.getNumber() + 1,
                 comments.getSize(),
                 comments.getTotalElements(),
@@ -201,16 +225,21 @@ public class CommentServiceImpl implements CommentService {
      * @param authorId the ID of the author whose comments are to be retrieved
      * @param page the page number to retrieve (starting from 1)
      * @param size the number of comments to retrieve per page
+     * @param summary whether to leave out the content of the comments
      * @return a PageResponse containing the comments written by the author, along with pagination details
      */
     @Override
     @Cacheable("comments")
-    public PageResponse<CommentDto> getCommentsByAuthor(Long authorId, int page, int size) {
+    @Transactional(readOnly = true)
+    @DbBulkhead(BulkheadType.READ)
+    public PageResponse<CommentDto> getCommentsByAuthor(Long authorId, int page, int size, boolean summary) {
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by("createdAt").descending());
-        var comments = commentRepository.findAllByAuthorId(authorId, pageable);
+        var comments = summary
+                ? commentRepository.findSummariesByAuthorId(authorId, pageable)
+                : commentRepository.findAllByAuthorId(authorId, pageable);
         log.info("Comments retrieved successfully for author {} with page {} and size {}", authorId, page, size);
         return new PageResponse<>(
-                CommentMapper.toDtoList(comments.getContent()),
+                comments.getContent(),
                 comments.getNumber() + 1,
                 comments.getSize(),
                 comments.getTotalElements(),
@@ -227,16 +256,21 @@ public class CommentServiceImpl implements CommentService {
      * @param authorId  the ID of the author
      * @param page      the page number
      * @param size      the number of comments per page
+     * @param summary   whether to leave out the content of the comments
      * @return a PageResponse object containing a list of CommentDto objects and pagination information
      */
     @Override
     @Cacheable("comments")
-    public PageResponse<CommentDto> getCommentsByTaskAndAuthor(Long taskId, Long authorId, int page, int size) {
+    @Transactional(readOnly = true)
+    @DbBulkhead(BulkheadType.READ)
+    public PageResponse<CommentDto> getCommentsByTaskAndAuthor(Long taskId, Long authorId, int page, int size, boolean summary) {
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by("createdAt").descending());
-        var comments = commentRepository.findAllByTaskIdAndAuthorId(taskId, authorId, pageable);
+        var comments = summary
+                ? commentRepository.findSummariesByTaskIdAndAuthorId(taskId, authorId, pageable)
+                : commentRepository.findAllByTaskIdAndAuthorId(taskId, authorId, pageable);
         log.info("Comments retrieved successfully for task {} and author {} with page {} and size {}", taskId, authorId, page, size);
         return new PageResponse<>(
-                CommentMapper.toDtoList(comments.getContent()),
+                comments.getContent(),
                 comments.getNumber() + 1,
                 comments.getSize(),
                 comments.getTotalElements(),
@@ -5,63 +5,42 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import tech.nuqta.taskmanagement.enums.RoleName;
-import tech.nuqta.taskmanagement.role.Role;
-import tech.nuqta.taskmanagement.role.RoleRepository;
 import tech.nuqta.taskmanagement.user.entity.User;
 import tech.nuqta.taskmanagement.user.repository.UserRepository;
 
-import java.util.List;
-
 @Component
 public class SetupDataLoader implements CommandLineRunner {
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
 
     /**
-     * Sets up initial data in the application by creating default roles and users if they don't already exist.
+     * Sets up initial data in the application by creating default users if they don't already exist.
      *
      * @param userRepository   the user repository
-     * @param roleRepository   the role repository
      * @param passwordEncoder  the password encoder
      */
-    public SetupDataLoader(UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder) {
+    public SetupDataLoader(UserRepository userRepository, PasswordEncoder passwordEncoder) {
         this.userRepository = userRepository;
-        this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
     }
 
     /**
      * This method is responsible for running the setup data loading process.
-     * It checks if the role and user repositories are empty, and if so, it creates and saves initial role and user entities.
-     * The roles "USER", "ADMIN" and "VENDOR" are created and saved in the role repository.
-     * Then, the user "Adminjon" and "Userbek" are created and saved in the user repository, with their respective roles.
+     * It checks if the user repository is empty, and if so, it creates and saves initial user entities.
+     * The user "Adminjon" is created with the ADMIN role and "Userbek" with the USER role.
      *
      * @param args The command line arguments passed to the application
      */
     @Override
     @Transactional
     public void run(String... args) {
-        if (roleRepository.count() == 0) {
-            var user = new Role();
-            user.setName(RoleName.USER);
-            roleRepository.save(user);
-
-            var admin = new Role();
-            admin.setName(RoleName.ADMIN);
-            roleRepository.save(admin);
-        }
         if (userRepository.count() == 0) {
-            var userRole = roleRepository.findByName(RoleName.USER)
-                    .orElseThrow(() -> new IllegalStateException("ROLE USER was not initiated"));
-            var adminRole = roleRepository.findByName(RoleName.ADMIN).orElseThrow(
-                    () -> new IllegalStateException("ROLE ADMIN was not initiated"));
             var admin = new User();
             admin.setFirstname("Adminjon");
             admin.setLastname("Adminbekov");
             admin.setEmail("admin@handihub.uz");
             admin.setPassword(passwordEncoder.encode("admin"));
-            admin.setRoles(List.of(adminRole));
+            admin.setRoleMask(RoleName.ADMIN.getMask());
             admin.setEnabled(true);
             admin.setAccountLocked(false);
             userRepository.save(admin);
@@ -73,7 +52,7 @@ public class SetupDataLoader implements CommandLineRunner {
             user.setEnabled(true);
             user.setAccountLocked(false);
             user.setPassword(passwordEncoder.encode("user"));
-            user.setRoles(List.of(userRole));
+            user.setRoleMask(RoleName.USER.getMask());
             userRepository.save(user);
 
         }
@@ -0,0 +1,150 @@
+package tech.nuqta.taskmanagement.compression;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import net.jpountz.lz4.LZ4Factory;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A piece of text that is kept in its stored form, LZ4-compressed if it was large, until it is read.
+ * Values loaded from the database, and the DTOs and cache entries built from them, therefore hold the compressed bytes;
+ * the text is decompressed on every {@link #text()} call, normally once when the response is serialized.
+ * <p>
+ * The stored form starts with a format byte: {@code 0} is followed by the UTF-8 text,
+ * {@code 1} by the length of the UTF-8 text as a 4-byte integer and the LZ4 block.
+ */
+public final class CompressedText implements Serializable {
+    static final byte PLAIN = 0;
+    static final byte LZ4 = 1;
+    private static final int LZ4_HEADER = 1 + Integer.BYTES;
+    private static final LZ4Factory LZ4_FACTORY = LZ4Factory.fastestInstance();
+
+    private final String text;
+    private final byte[] stored;
+
+    private CompressedText(String text, byte[] stored) {
+        this.text = text;
+        this.stored = stored;
+    }
+
+    public static CompressedText of(String text) {
+        return text == null ? null : new CompressedText(text, null);
+    }
+
+    static CompressedText fromStored(byte[] stored) {
+        return stored == null ? null : new CompressedText(null, stored);
+    }
+
+    @JsonValue
+    public String text() {
+        if (text != null) {
+            return text;
+        }
+        if (stored[0] == PLAIN) {
+            return new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+        }
+        int length = ByteBuffer.wrap(stored, 1, Integer.BYTES).getInt();
+        var utf8 = LZ4_FACTORY.fastDecompressor().decompress(stored, LZ4_HEADER, length);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the stored form, compressing the text if its UTF-8 encoding is larger than the threshold
+     * and compression makes it smaller.
+     */
+    byte[] toStored(int threshold) {
+        if (stored != null) {
+            return stored;
+        }
+        var utf8 = text.getBytes(StandardCharsets.UTF_8);
+        return frame(utf8, 0, utf8.length, threshold);
+    }
+
+    private static byte[] frame(byte[] utf8, int offset, int length, int threshold) {
+        if (length > threshold) {
+            var compressor = LZ4_FACTORY.fastCompressor();
+            var compressed = new byte[LZ4_HEADER + compressor.maxCompressedLength(length)];
+            int compressedLength = compressor.compress(utf8, offset, length, compressed, LZ4_HEADER);
+            if (LZ4_HEADER + compressedLength < 1 + length) {
+                compressed[0] = LZ4;
+                ByteBuffer.wrap(compressed, 1, Integer.BYTES).putInt(length);
+                return Arrays.copyOf(compressed, LZ4_HEADER + compressedLength);
+            }
+        }
+        var plain = new byte[1 + length];
+        plain[0] = PLAIN;
+        System.arraycopy(utf8, offset, plain, 1, length);
+        return plain;
+    }
+
+    /**
+     * Returns the length of the UTF-8 text, which the stored form records, so it is known without decompressing.
+     */
+    private int utf8Length() {
+        if (stored != null) {
+            return stored[0] == PLAIN ? stored.length - 1 : ByteBuffer.wrap(stored, 1, Integer.BYTES).getInt();
+        }
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                // an unpaired surrogate is encoded as '?'
+                length += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Compares the texts without decompressing either side: a text is encoded, and compressed if the other side is,
+     * and a plain stored form is compressed to compare it with a compressed one. Compressed forms written by another
+     * LZ4 implementation may differ for the same text, which makes Hibernate write an unchanged value once more.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompressedText other)) {
+            return false;
+        }
+        if (text != null && other.text != null) {
+            return text.equals(other.text);
+        }
+        if (utf8Length() != other.utf8Length()) {
+            return false;
+        }
+        if (stored == null) {
+            return Arrays.equals(toStored(other.stored[0] == LZ4 ? 0 : Integer.MAX_VALUE), other.stored);
+        }
+        if (other.stored == null) {
+            return Arrays.equals(stored, other.toStored(stored[0] == LZ4 ? 0 : Integer.MAX_VALUE));
+        }
+        if (stored[0] == other.stored[0]) {
+            return Arrays.equals(stored, other.stored);
+        }
+        var plain = stored[0] == PLAIN ? stored : other.stored;
+        var compressed = stored[0] == PLAIN ? other.stored : stored;
+        return Arrays.equals(frame(plain, 1, plain.length - 1, 0), compressed);
+    }
+
+    @Override
+    public int hashCode() {
+        return utf8Length();
+    }
+
+    @Override
+    public String toString() {
+        return text();
+    }
+}
@@ -0,0 +1,30 @@
+package tech.nuqta.taskmanagement.compression;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Stores {@link CompressedText} in a {@code bytea} column. Values read from the database are not decompressed here,
+ * so entities, the second-level cache and DTO projections carry the stored bytes until the text is used.
+ * The converter is created through the Spring bean container, which supplies the configured threshold.
+ */
+@Immutable
+@Converter
+public class CompressedTextConverter implements AttributeConverter<CompressedText, byte[]> {
+    private final int threshold;
+
+    public CompressedTextConverter(CompressionProperties properties) {
+        this.threshold = (int) properties.getThreshold().toBytes();
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(CompressedText attribute) {
+        return attribute == null ? null : attribute.toStored(threshold);
+    }
+
+    @Override
+    public CompressedText convertToEntityAttribute(byte[] dbData) {
+        return CompressedText.fromStored(dbData);
+    }
+}
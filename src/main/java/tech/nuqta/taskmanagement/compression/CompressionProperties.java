@@ -0,0 +1,20 @@
+package tech.nuqta.taskmanagement.compression;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration of the compression of task descriptions and comment bodies.
+ * Texts whose UTF-8 encoding is larger than {@code threshold} are stored LZ4-compressed;
+ * the migration compresses existing rows {@code migration-chunk-size} rows at a time.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.compression")
+public class CompressionProperties {
+
+    private DataSize threshold = DataSize.ofKilobytes(4);
+    private int migrationChunkSize = 500;
+}
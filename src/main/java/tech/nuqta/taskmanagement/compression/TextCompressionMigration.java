@@ -0,0 +1,94 @@
+package tech.nuqta.taskmanagement.compression;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import tech.nuqta.taskmanagement.migration.SchemaMigration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Converts {@code tasks.description} and {@code comments.content}, and the same columns of the archive tables,
+ * from {@code text} to the framed {@code bytea} read by {@link CompressedTextConverter},
+ * then compresses the rows above the threshold in chunks.
+ * The columns use {@code STORAGE EXTERNAL} so PostgreSQL does not compress the bytes a second time.
+ * {@code ddl-auto: update} never changes column types, hence this migration. The type change runs before the
+ * application starts, since no entity can be read or written until it is done; the rows are compressed once
+ * the application is up, since plain values stay readable. Every step can be repeated,
+ * so an interrupted run continues on the next start.
+ */
+@Component
+@RequiredArgsConstructor
+public class TextCompressionMigration implements SchemaMigration, ApplicationRunner {
+    private static final List<String[]> COLUMNS = List.of(
+            new String[]{"tasks", "description"},
+            new String[]{"comments", "content"},
+            new String[]{"tasks_archive", "description"},
+            new String[]{"comments_archive", "content"});
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompressionProperties properties;
+
+    @Override
+    public int getOrder() {
+        return TEXT_COMPRESSION;
+    }
+
+    @Override
+    public void migrate() {
+        for (var column : COLUMNS) {
+            convert(column[0], column[1]);
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int threshold = (int) properties.getThreshold().toBytes();
+        for (var column : COLUMNS) {
+            compress(column[0], column[1], threshold);
+        }
+    }
+
+    private void convert(String table, String column) {
+        jdbcTemplate.execute("""
+                DO $$
+                BEGIN
+                    IF (SELECT data_type FROM information_schema.columns
+                        WHERE table_schema = current_schema() AND table_name = '%1$s' AND column_name = '%2$s') = 'text' THEN
+                        ALTER TABLE %1$s ALTER COLUMN %2$s TYPE bytea USING ('\\x00'::bytea || convert_to(%2$s, 'UTF8'));
+                    END IF;
+                    IF to_regclass('%1$s') IS NOT NULL THEN
+                        ALTER TABLE %1$s ALTER COLUMN %2$s SET STORAGE EXTERNAL;
+                    END IF;
+                END $$
+                """.formatted(table, column));
+    }
+
+    private void compress(String table, String column, int threshold) {
+        var select = """
+                SELECT id, substring(%2$s FROM 2) AS utf8 FROM %1$s
+                WHERE id > ? AND get_byte(%2$s, 0) = %3$d AND octet_length(%2$s) > ?
+                ORDER BY id LIMIT ?
+                """.formatted(table, column, CompressedText.PLAIN);
+        var update = "UPDATE %s SET %s = ? WHERE id = ?".formatted(table, column);
+        long lastId = 0;
+        while (true) {
+            var rows = jdbcTemplate.query(select, (rs, i) -> new Object[]{rs.getLong("id"), rs.getBytes("utf8")},
+                    lastId, threshold + 1, properties.getMigrationChunkSize());
+            if (rows.isEmpty()) {
+                return;
+            }
+            var compressed = rows.stream()
+                    .map(row -> new Object[]{
+                            CompressedText.of(new String((byte[]) row[1], StandardCharsets.UTF_8)).toStored(threshold),
+                            row[0]})
+                    .filter(row -> ((byte[]) row[0])[0] == CompressedText.LZ4)
+                    .toList();
+            jdbcTemplate.batchUpdate(update, compressed);
+            lastId = (long) rows.getLast()[0];
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package tech.nuqta.taskmanagement.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tech.nuqta.taskmanagement.handler.ExceptionResponse;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static tech.nuqta.taskmanagement.handler.BusinessErrorCodes.SERVICE_OVERLOADED;
+
+/**
+ * This filter sheds load before authentication or any service work happens. Every API request is assigned
+ * to an {@link EndpointClass} and admitted only while fewer than that class's adaptive limit are in flight;
+ * the rest get a {@code 503} immediately. The limit of each class is published as {@code http.concurrency.limit}.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private static final String API_PREFIX = "/api/";
+    private static final String AUTH_PREFIX = "/api/v1/auth/";
+
+    private final Map<EndpointClass, GradientLimiter> limiters = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rejections = new EnumMap<>(EndpointClass.class);
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        for (var endpointClass : EndpointClass.values()) {
+            var spec = properties.getPartitions()
+                    .getOrDefault(endpointClass, new ConcurrencyLimitProperties.LimitSpec());
+            var limiter = new GradientLimiter(spec);
+            var tag = endpointClass.name().toLowerCase();
+            limiters.put(endpointClass, limiter);
+            rejections.put(endpointClass, Counter.builder("http.concurrency.rejected")
+                    .description("Requests shed because the concurrency limit was reached")
+                    .tag("partition", tag)
+                    .register(meterRegistry));
+            Gauge.builder("http.concurrency.limit", limiter, GradientLimiter::getLimit)
+                    .description("Current adaptive concurrency limit")
+                    .tag("partition", tag)
+                    .register(meterRegistry);
+            Gauge.builder("http.concurrency.in-flight", limiter, GradientLimiter::getInFlight)
+                    .description("Requests currently admitted")
+                    .tag("partition", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        var endpointClass = classify(request);
+        var limiter = limiters.get(endpointClass);
+        if (!limiter.tryAcquire()) {
+            rejections.get(endpointClass).increment();
+            writeServiceUnavailable(response);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean overloaded = false;
+        try {
+            filterChain.doFilter(request, response);
+            overloaded = response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value();
+        } finally {
+            limiter.release(System.nanoTime() - start, overloaded);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getServletPath().startsWith(API_PREFIX);
+    }
+
+    private static EndpointClass classify(HttpServletRequest request) {
+        if (request.getServletPath().startsWith(AUTH_PREFIX)) {
+            return EndpointClass.AUTH;
+        }
+        return switch (request.getMethod()) {
+            case "GET", "HEAD", "OPTIONS" -> EndpointClass.READ;
+            default -> EndpointClass.WRITE;
+        };
+    }
+
+    private void writeServiceUnavailable(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getWriter(), ExceptionResponse.builder()
+                .errorCode(SERVICE_OVERLOADED.getCode())
+                .errorDescription(SERVICE_OVERLOADED.getDescription())
+                .error("The server is at capacity, please retry later")
+                .timestamp(System.currentTimeMillis())
+                .build());
+    }
+}
@@ -0,0 +1,35 @@
+package tech.nuqta.taskmanagement.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuration of the adaptive concurrency limits, one per {@link EndpointClass}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+    private Map<EndpointClass, LimitSpec> partitions = new EnumMap<>(EndpointClass.class);
+
+    /**
+     * The limit starts at {@code initialLimit} and moves between {@code minLimit} and {@code maxLimit}.
+     * It shrinks once recent latency exceeds {@code tolerance} times the long-term latency,
+     * and {@code smoothing} controls how fast it follows each new estimate.
+     */
+    @Getter
+    @Setter
+    public static class LimitSpec {
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 200;
+        private double tolerance = 1.5;
+        private double smoothing = 0.2;
+    }
+}
@@ -0,0 +1,10 @@
+package tech.nuqta.taskmanagement.concurrency;
+
+/**
+ * The classes of endpoints that get separate concurrency limits.
+ */
+public enum EndpointClass {
+    AUTH,
+    READ,
+    WRITE
+}
@@ -0,0 +1,108 @@
+package tech.nuqta.taskmanagement.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A concurrency limiter whose limit follows the gradient between long-term and recent latency.
+ * While recent latency stays within {@code tolerance} of the long-term average, the limit grows by a
+ * queue allowance of {@code sqrt(limit)}; once requests start queueing and latency rises, the limit
+ * shrinks in proportion. Requests rejected downstream as overloaded shrink the limit multiplicatively.
+ * <p>
+ * Latency samples are applied under a lock that completing requests only try to take: a sample that arrives
+ * while another is being applied is dropped, which the moving averages tolerate, so no request waits here.
+ * Overload signals are never dropped.
+ */
+class GradientLimiter {
+    private static final double LONG_WINDOW = 600;
+    private static final double SHORT_WINDOW = 10;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile double limit;
+    private double longRtt;
+    private double shortRtt;
+
+    GradientLimiter(ConcurrencyLimitProperties.LimitSpec spec) {
+        this.minLimit = spec.getMinLimit();
+        this.maxLimit = spec.getMaxLimit();
+        this.tolerance = spec.getTolerance();
+        this.smoothing = spec.getSmoothing();
+        this.limit = spec.getInitialLimit();
+    }
+
+    /**
+     * Admits a request if fewer than the current limit are in flight.
+     *
+     * @return true if the request was admitted and {@link #release} must be called
+     */
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases an admitted request and updates the limit from its latency.
+     *
+     * @param rttNanos   how long the request took
+     * @param overloaded whether the request was rejected downstream because of overload
+     */
+    void release(long rttNanos, boolean overloaded) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (overloaded) {
+            lock.lock();
+        } else if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            update(rttNanos, overloaded, inFlightBefore);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getLimit() {
+        return (int) limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void update(long rttNanos, boolean overloaded, int inFlightBefore) {
+        if (overloaded) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+            return;
+        }
+        if (longRtt == 0) {
+            longRtt = rttNanos;
+            shortRtt = rttNanos;
+        }
+        shortRtt += (rttNanos - shortRtt) / SHORT_WINDOW;
+        longRtt += (rttNanos - longRtt) / LONG_WINDOW;
+        // after a period of overload let the long-term average recover faster than its window allows
+        if (longRtt > 2 * shortRtt) {
+            longRtt *= 0.95;
+        }
+        // an app-limited partition says nothing about how much more it could take
+        if (inFlightBefore < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double estimate = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - smoothing) + estimate * smoothing));
+    }
+}
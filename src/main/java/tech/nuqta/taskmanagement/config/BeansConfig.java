@@ -1,8 +1,11 @@
 package tech.nuqta.taskmanagement.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
@@ -13,11 +16,20 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import tech.nuqta.taskmanagement.compression.CompressionProperties;
+import tech.nuqta.taskmanagement.jfr.CacheMissRecordingCache;
+import tech.nuqta.taskmanagement.partition.PartitioningProperties;
+import tech.nuqta.taskmanagement.purge.PurgeProperties;
+import tech.nuqta.taskmanagement.token.ActivationTokenProperties;
+
+import java.time.Duration;
 
 /**
  * The BeansConfig class is a configuration class that defines various beans used in the application.
  */
 @Configuration
+@EnableConfigurationProperties({ActivationTokenProperties.class, CompressionProperties.class, PartitioningProperties.class,
+        PurgeProperties.class})
 @RequiredArgsConstructor
 public class BeansConfig {
 
@@ -31,9 +43,23 @@ public class BeansConfig {
         return authProvider;
     }
 
+    /**
+     * Caffeine caches record hit and miss statistics, which are published as cache metrics,
+     * and emit a flight recorder event for every miss.
+     */
     @Bean
     public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager("tasks", "comments", "users");
+        var cacheManager = new CaffeineCacheManager("tasks", "comments", "users") {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new CacheMissRecordingCache(name, cache, isAllowNullValues());
+            }
+        };
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .recordStats());
+        return cacheManager;
     }
 
     @Bean
@@ -1,14 +1,17 @@
 package tech.nuqta.taskmanagement.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
+import tech.nuqta.taskmanagement.email.EmailOutboxProperties;
 
 /**
  * The MailConfig class provides configuration for a JavaMailSender bean used for sending emails.
  */
 @Configuration
+@EnableConfigurationProperties(EmailOutboxProperties.class)
 public class MailConfig {
 
     @Bean
@@ -0,0 +1,65 @@
+package tech.nuqta.taskmanagement.deadline;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * This filter starts the {@link RequestDeadline} of every API request from the endpoint's configured timeout,
+ * shortened by the client's timeout header if that asks for less.
+ */
+@RequiredArgsConstructor
+public class DeadlineFilter extends OncePerRequestFilter {
+    private final DeadlineProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestDeadline.start(timeout(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getServletPath().startsWith("/api/");
+    }
+
+    private Duration timeout(HttpServletRequest request) {
+        var path = request.getServletPath();
+        var timeout = properties.getEndpoints().entrySet().stream()
+                .filter(entry -> pathMatcher.match(entry.getKey(), path))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(properties.getDefaultTimeout());
+
+        var requested = request.getHeader(properties.getHeader());
+        if (requested != null) {
+            try {
+                var requestedTimeout = Duration.ofMillis(Long.parseLong(requested.trim()));
+                if (requestedTimeout.isPositive() && requestedTimeout.compareTo(timeout) < 0) {
+                    return requestedTimeout;
+                }
+            } catch (NumberFormatException ignored) {
+                // a malformed header falls back to the endpoint timeout
+            }
+        }
+        return timeout;
+    }
+}
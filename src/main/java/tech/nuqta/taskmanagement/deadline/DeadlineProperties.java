@@ -0,0 +1,25 @@
+package tech.nuqta.taskmanagement.deadline;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration of request deadlines. Each request gets the timeout of the first matching pattern in
+ * {@code endpoints}, or {@code defaultTimeout}. A client may ask for less time with the {@code header},
+ * in milliseconds, but never for more.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.deadline")
+public class DeadlineProperties {
+
+    private boolean enabled = true;
+    private String header = "X-Request-Timeout";
+    private Duration defaultTimeout = Duration.ofSeconds(10);
+    private Map<String, Duration> endpoints = new LinkedHashMap<>();
+}
@@ -0,0 +1,73 @@
+package tech.nuqta.taskmanagement.deadline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import tech.nuqta.taskmanagement.exception.RequestDeadlineExceededException;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.List;
+
+/**
+ * Within a request, gives every statement a query timeout of the time left until the {@link RequestDeadline},
+ * so the driver cancels it in the database once the client is no longer waiting, and refuses to start
+ * statements once the deadline has passed.
+ */
+@Slf4j
+class DeadlineStatementListener implements QueryExecutionListener {
+    private static final String QUERY_CANCELED_STATE = "57014";
+
+    private final Counter expiredBeforeStatement;
+    private final Counter cancelledStatements;
+
+    DeadlineStatementListener(MeterRegistry meterRegistry) {
+        this.expiredBeforeStatement = Counter.builder("http.request.deadline.exceeded")
+                .description("Requests that ran past their deadline")
+                .tag("stage", "before-statement")
+                .register(meterRegistry);
+        this.cancelledStatements = Counter.builder("http.request.deadline.exceeded")
+                .description("Requests that ran past their deadline")
+                .tag("stage", "statement-cancelled")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        var deadline = RequestDeadline.current();
+        if (deadline == null) {
+            return;
+        }
+        long remainingMillis = deadline.remaining().toMillis();
+        if (remainingMillis <= 0) {
+            expiredBeforeStatement.increment();
+            throw new RequestDeadlineExceededException("The request deadline expired before a database statement could run");
+        }
+        // JDBC timeouts have a resolution of seconds, so round up rather than cancel early
+        int timeoutSeconds = (int) Math.ceil(remainingMillis / 1000.0);
+        try {
+            var statement = execInfo.getStatement();
+            int current = statement.getQueryTimeout();
+            if (current == 0 || current > timeoutSeconds) {
+                statement.setQueryTimeout(timeoutSeconds);
+            }
+        } catch (SQLException e) {
+            log.debug("Could not set the statement timeout", e);
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (RequestDeadline.current() != null && isCancelled(execInfo.getThrowable())) {
+            cancelledStatements.increment();
+        }
+    }
+
+    private static boolean isCancelled(Throwable throwable) {
+        return throwable instanceof SQLTimeoutException
+                || throwable instanceof SQLException e && QUERY_CANCELED_STATE.equals(e.getSQLState());
+    }
+}
@@ -0,0 +1,44 @@
+package tech.nuqta.taskmanagement.deadline;
+
+import java.time.Duration;
+
+/**
+ * The point in time by which the current request must be answered. It is bound to the request thread by the
+ * {@link DeadlineFilter}, so the service layer and the JDBC layer can see how much time is left.
+ */
+public final class RequestDeadline {
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+
+    private RequestDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Returns the deadline of the request served by this thread.
+     *
+     * @return the deadline, or null outside of a request
+     */
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    static RequestDeadline start(Duration timeout) {
+        var deadline = new RequestDeadline(System.nanoTime() + timeout.toNanos());
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(deadlineNanos - System.nanoTime());
+    }
+
+    public boolean isExpired() {
+        return System.nanoTime() - deadlineNanos >= 0;
+    }
+}
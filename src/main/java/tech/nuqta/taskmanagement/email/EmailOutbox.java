@@ -0,0 +1,48 @@
+package tech.nuqta.taskmanagement.email;
+
+import jakarta.persistence.*;
+import lombok.*;
+import tech.nuqta.taskmanagement.enums.EmailOutboxStatus;
+import tech.nuqta.taskmanagement.enums.EmailTemplateName;
+import tech.nuqta.taskmanagement.id.TimeOrderedId;
+
+import java.time.LocalDateTime;
+
+/**
+ * The EmailOutbox class represents an email waiting to be delivered.
+ * Rows are written in the same transaction as the business change that triggers the email
+ * and are delivered later by the {@link EmailOutboxWorker}.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "email_outbox", indexes = @Index(name = "idx_email_outbox_pending", columnList = "status, nextAttemptAt"))
+public class EmailOutbox {
+    @Id
+    @TimeOrderedId
+    private Long id;
+    @Column(nullable = false)
+    private String recipient;
+    private String username;
+    @Enumerated(EnumType.STRING)
+    private EmailTemplateName template;
+    private String confirmationUrl;
+    private String activationCode;
+    private String subject;
+    /**
+     * The recipient's locale as a language tag, taken from the request that queued the email.
+     */
+    private String locale;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EmailOutboxStatus status;
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,27 @@
+package tech.nuqta.taskmanagement.email;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the email outbox delivery worker.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.mailing.outbox")
+public class EmailOutboxProperties {
+
+    private boolean enabled = true;
+    private int batchSize = 50;
+    private int maxAttempts = 8;
+    private Duration initialBackoff = Duration.ofSeconds(30);
+    private Duration maxBackoff = Duration.ofHours(1);
+    /**
+     * How long a claimed batch is hidden from other workers while it is sent;
+     * longer than the worst-case SMTP round trip of a batch.
+     */
+    private Duration claimTimeout = Duration.ofMinutes(5);
+}
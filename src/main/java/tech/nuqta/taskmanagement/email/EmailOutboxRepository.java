@@ -0,0 +1,26 @@
+package tech.nuqta.taskmanagement.email;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * Claims a batch of due emails. Rows locked by another worker are skipped,
+     * so several application instances can drain the outbox concurrently.
+     * Must be called inside a transaction; the locks are held until it ends,
+     * so the caller moves {@code next_attempt_at} forward before committing.
+     */
+    @Query(value = """
+            SELECT * FROM email_outbox
+            WHERE status = 'PENDING' AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<EmailOutbox> claimBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
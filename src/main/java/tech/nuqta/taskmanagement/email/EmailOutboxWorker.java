@@ -0,0 +1,157 @@
+package tech.nuqta.taskmanagement.email;
+
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.nuqta.taskmanagement.async.AsyncConfig;
+import tech.nuqta.taskmanagement.enums.EmailOutboxStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The EmailOutboxWorker class drains the email outbox.
+ * Each run claims a batch of due rows with {@code FOR UPDATE SKIP LOCKED}, sends all of them over a single
+ * SMTP connection and reschedules failed ones with exponential backoff. No transaction or connection
+ * is held while talking to the SMTP server.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxWorker {
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailTemplateRenderer renderer;
+    private final JavaMailSender mailSender;
+    private final EmailOutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${application.mailing.outbox.poll-interval:PT5S}")
+    public void poll() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int claimed;
+        do {
+            claimed = deliverPendingEmails();
+        } while (claimed == properties.getBatchSize());
+    }
+
+    /**
+     * Starts delivery on the mail executor once the transaction that queued an email has committed,
+     * instead of waiting for the next poll. The scheduled poll remains as a safety net for retries and crashes.
+     *
+     * @param event the queued email
+     */
+    @Async(AsyncConfig.MAIL_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmailQueued(EmailQueuedEvent event) {
+        if (properties.isEnabled()) {
+            deliverPendingEmails();
+        }
+    }
+
+    /**
+     * Claims and delivers one batch of due emails. The batch is claimed in a short transaction that moves
+     * the rows' next attempt past the claim timeout, so other workers skip them while they are being sent.
+     * Sending happens outside any transaction, and the results are saved in a second short transaction.
+     * If the instance dies in between, the rows become due again once the claim times out.
+     *
+     * @return the number of emails claimed in this batch
+     */
+    public int deliverPendingEmails() {
+        var batch = transactionTemplate.execute(status -> {
+            var now = LocalDateTime.now();
+            var claimed = outboxRepository.claimBatch(now, properties.getBatchSize());
+            claimed.forEach(email -> email.setNextAttemptAt(now.plus(properties.getClaimTimeout())));
+            return outboxRepository.saveAll(claimed);
+        });
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        var renderBatch = renderer.newBatch();
+        Map<MimeMessage, EmailOutbox> messages = new IdentityHashMap<>();
+        List<MimeMessage> toSend = new ArrayList<>(batch.size());
+        for (var email : batch) {
+            try {
+                var message = renderBatch.render(email);
+                messages.put(message, email);
+                toSend.add(message);
+            } catch (Exception e) {
+                markFailed(email, e);
+            }
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        if (!toSend.isEmpty()) {
+            try {
+                // JavaMailSenderImpl opens one Transport connection for the whole array
+                mailSender.send(toSend.toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                failures = e.getFailedMessages();
+            } catch (MailException e) {
+                failures = new HashMap<>();
+                for (var message : toSend) {
+                    failures.put(message, e);
+                }
+            }
+        }
+
+        var now = LocalDateTime.now();
+        int failed = batch.size() - toSend.size();
+        for (var message : toSend) {
+            var email = messages.get(message);
+            var failure = failures.get(message);
+            if (failure == null) {
+                email.setStatus(EmailOutboxStatus.SENT);
+                email.setAttempts(email.getAttempts() + 1);
+                email.setSentAt(now);
+                email.setLastError(null);
+            } else {
+                markFailed(email, failure);
+                failed++;
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.saveAll(batch));
+        log.info("Email outbox batch processed: {} claimed, {} failed", batch.size(), failed);
+        return batch.size();
+    }
+
+    /**
+     * Records a failed delivery attempt and schedules a retry, or gives up after the maximum number of attempts.
+     *
+     * @param email the email that could not be delivered
+     * @param error the cause of the failure
+     */
+    private void markFailed(EmailOutbox email, Exception error) {
+        int attempts = email.getAttempts() + 1;
+        email.setAttempts(attempts);
+        email.setLastError(error.getMessage());
+        if (attempts >= properties.getMaxAttempts()) {
+            email.setStatus(EmailOutboxStatus.FAILED);
+            log.error("Email with id: {} to {} failed permanently after {} attempts",
+                    email.getId(), email.getRecipient(), attempts, error);
+            return;
+        }
+        var backoff = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(properties.getMaxBackoff()) > 0) {
+            backoff = properties.getMaxBackoff();
+        }
+        email.setNextAttemptAt(LocalDateTime.now().plus(backoff));
+        log.warn("Email with id: {} to {} failed, retrying in {}: {}",
+                email.getId(), email.getRecipient(), backoff, error.getMessage());
+    }
+}
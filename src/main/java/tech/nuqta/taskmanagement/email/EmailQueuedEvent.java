@@ -0,0 +1,7 @@
+package tech.nuqta.taskmanagement.email;
+
+/**
+ * Published when an email is written to the outbox, so delivery can start as soon as the transaction commits.
+ */
+public record EmailQueuedEvent(Long emailId) {
+}
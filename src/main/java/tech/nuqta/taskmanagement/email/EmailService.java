@@ -1,71 +1,63 @@
 package tech.nuqta.taskmanagement.email;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.springframework.transaction.annotation.Transactional;
+import tech.nuqta.taskmanagement.enums.EmailOutboxStatus;
 import tech.nuqta.taskmanagement.enums.EmailTemplateName;
 
-import java.util.HashMap;
-import java.util.Map;
-
-import static java.nio.charset.StandardCharsets.UTF_8;
-import static org.springframework.mail.javamail.MimeMessageHelper.MULTIPART_MODE_MIXED;
+import java.time.LocalDateTime;
 
 /**
- * The EmailService class is responsible for sending emails using the JavaMailSender and SpringTemplateEngine.
- * It provides a method for sending emails asynchronously.
+ * The EmailService class is responsible for queueing emails in the outbox.
+ * Rendering is done by the {@link EmailTemplateRenderer} and delivery in batches by the {@link EmailOutboxWorker}.
  */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class EmailService {
-    private final JavaMailSender mailSender;
-    private final SpringTemplateEngine templateEngine;
-
-    @Async
-    public void sendEmail(
+    private final EmailOutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Queues an email for delivery. The outbox row joins the caller's transaction,
+     * so the email is only sent if the surrounding business change commits.
+     * The email is rendered in the locale of the current request.
+     *
+     * @param to              the recipient address
+     * @param username        the name used in the greeting
+     * @param emailTemplate   the template to render
+     * @param confirmationUrl the confirmation link
+     * @param activationCode  the activation code
+     * @param subject         the email subject
+     */
+    @Transactional
+    public void queueEmail(
             String to,
             String username,
             EmailTemplateName emailTemplate,
             String confirmationUrl,
             String activationCode,
             String subject
-    ) throws MessagingException {
-        String templateName;
-        if (emailTemplate == null) {
-            templateName = "confirm-email";
-        } else {
-            templateName = emailTemplate.name();
-        }
-        MimeMessage mimeMessage = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(
-                mimeMessage,
-                MULTIPART_MODE_MIXED,
-                UTF_8.name()
-        );
-        Map<String, Object> properties = new HashMap<>();
-        properties.put("username", username);
-        properties.put("confirmationUrl", confirmationUrl);
-        properties.put("activation_code", activationCode);
-
-        Context context = new Context();
-        context.setVariables(properties);
-
-        helper.setFrom("Task Management Email Verification <info@nuqta.tech>");
-        helper.setTo(to);
-        helper.setSubject(subject);
-
-        String template = templateEngine.process(templateName, context);
-
-        helper.setText(template, true);
-
-        mailSender.send(mimeMessage);
+    ) {
+        var now = LocalDateTime.now();
+        var email = EmailOutbox.builder()
+                .recipient(to)
+                .username(username)
+                .template(emailTemplate)
+                .confirmationUrl(confirmationUrl)
+                .activationCode(activationCode)
+                .subject(subject)
+                .locale(LocaleContextHolder.getLocale().toLanguageTag())
+                .status(EmailOutboxStatus.PENDING)
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build();
+        outboxRepository.save(email);
+        eventPublisher.publishEvent(new EmailQueuedEvent(email.getId()));
+        log.info("Email to {} queued with id: {}", to, email.getId());
     }
 }
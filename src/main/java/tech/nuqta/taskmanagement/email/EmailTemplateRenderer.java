@@ -0,0 +1,223 @@
+package tech.nuqta.taskmanagement.email;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+import org.thymeleaf.TemplateSpec;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import tech.nuqta.taskmanagement.enums.EmailTemplateName;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The EmailTemplateRenderer class turns queued emails into MIME messages.
+ * Templates are parsed by a dedicated, always-caching template engine and then rendered once per template and
+ * language with markers in place of the email's variables. The output is split at the markers into static parts,
+ * so rendering an email only joins those parts with the HTML-escaped values. A template whose output is not
+ * a plain function of its variables, for example because it branches on them, fails the check done on preparation
+ * and is rendered by Thymeleaf for every email instead.
+ * Rendering goes through a {@link RenderBatch}, which reuses one Thymeleaf context and output buffer
+ * for all the messages it renders.
+ */
+@Component
+@Slf4j
+public class EmailTemplateRenderer {
+    private static final String FROM = "Task Management Email Verification <info@nuqta.tech>";
+    private static final String CONTENT_TYPE = "text/html; charset=" + UTF_8.name();
+    private static final String TRANSFER_ENCODING = "quoted-printable";
+    /**
+     * The language of the templates, used for emails queued without a locale.
+     */
+    private static final Locale DEFAULT_LOCALE = Locale.ENGLISH;
+    private static final Map<String, Function<EmailOutbox, String>> VARIABLES = variables();
+    private static final Pattern MARKER = Pattern.compile("%%(" + String.join("|", VARIABLES.keySet()) + ")%%");
+
+    private final JavaMailSender mailSender;
+    private final SpringTemplateEngine templateEngine;
+    private final InternetAddress from;
+    private final Map<TemplateKey, PreparedTemplate> preparedTemplates = new ConcurrentHashMap<>();
+
+    public EmailTemplateRenderer(JavaMailSender mailSender) {
+        this.mailSender = mailSender;
+        this.templateEngine = createTemplateEngine();
+        this.from = parseAddress(FROM);
+        for (var template : EmailTemplateName.values()) {
+            prepare(template, DEFAULT_LOCALE);
+        }
+        log.info("{} email templates precompiled", preparedTemplates.size());
+    }
+
+    /**
+     * Starts a new render batch. A batch is not thread-safe and should be used by one thread at a time.
+     *
+     * @return a new render batch
+     */
+    public RenderBatch newBatch() {
+        return new RenderBatch();
+    }
+
+    /**
+     * Returns the prepared template for a locale. Templates are prepared per language,
+     * which keeps the number of entries bounded whatever locales clients send.
+     */
+    private PreparedTemplate prepare(EmailTemplateName template, Locale locale) {
+        var language = Locale.of(locale.getLanguage());
+        return preparedTemplates.computeIfAbsent(new TemplateKey(template, language), key -> {
+            var spec = new TemplateSpec(template.getName(), TemplateMode.HTML);
+            var markers = new Context(language);
+            VARIABLES.keySet().forEach(name -> markers.setVariable(name, "%%" + name + "%%"));
+            var prepared = split(spec, language, templateEngine.process(spec, markers));
+
+            var sample = sampleEmail();
+            var context = new Context(language);
+            VARIABLES.forEach((name, value) -> context.setVariable(name, value.apply(sample)));
+            if (!templateEngine.process(spec, context).equals(prepared.join(sample))) {
+                log.warn("Email template {} depends on more than the values of its variables, rendering it per email",
+                        template.getName());
+                return new PreparedTemplate(spec, language, null, null);
+            }
+            return prepared;
+        });
+    }
+
+    private static PreparedTemplate split(TemplateSpec spec, Locale locale, String output) {
+        var parts = new ArrayList<String>();
+        var variables = new ArrayList<String>();
+        var matcher = MARKER.matcher(output);
+        int start = 0;
+        while (matcher.find()) {
+            parts.add(output.substring(start, matcher.start()));
+            variables.add(matcher.group(1));
+            start = matcher.end();
+        }
+        parts.add(output.substring(start));
+        return new PreparedTemplate(spec, locale, parts, variables);
+    }
+
+    private static EmailOutbox sampleEmail() {
+        return EmailOutbox.builder()
+                .username("Sample User")
+                .confirmationUrl("http://localhost/activate?a=1&b=2")
+                .activationCode("<000000>")
+                .build();
+    }
+
+    private static Map<String, Function<EmailOutbox, String>> variables() {
+        var variables = new LinkedHashMap<String, Function<EmailOutbox, String>>();
+        variables.put("username", EmailOutbox::getUsername);
+        variables.put("confirmationUrl", EmailOutbox::getConfirmationUrl);
+        variables.put("activation_code", EmailOutbox::getActivationCode);
+        return variables;
+    }
+
+    private static SpringTemplateEngine createTemplateEngine() {
+        var resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding(UTF_8.name());
+        resolver.setCacheable(true);
+
+        var engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        engine.setEnableSpringELCompiler(true);
+        return engine;
+    }
+
+    private static InternetAddress parseAddress(String address) {
+        try {
+            return new InternetAddress(address, true);
+        } catch (AddressException e) {
+            throw new IllegalStateException("Invalid sender address: " + address, e);
+        }
+    }
+
+    private record TemplateKey(EmailTemplateName template, Locale locale) {
+    }
+
+    /**
+     * A template with its output split into static parts around the variables,
+     * or without parts if it has to be rendered by Thymeleaf.
+     */
+    private record PreparedTemplate(TemplateSpec spec, Locale locale, List<String> parts, List<String> variables) {
+
+        boolean isSplit() {
+            return parts != null;
+        }
+
+        String join(EmailOutbox email) {
+            var html = new StringBuilder(parts.stream().mapToInt(String::length).sum() + 256);
+            for (int i = 0; i < variables.size(); i++) {
+                html.append(parts.get(i))
+                        .append(HtmlUtils.htmlEscape(VARIABLES.get(variables.get(i)).apply(email), UTF_8.name()));
+            }
+            return html.append(parts.getLast()).toString();
+        }
+    }
+
+    /**
+     * Renders a sequence of emails, reusing one Thymeleaf context and one output buffer.
+     */
+    public final class RenderBatch {
+        private final Context context = new Context();
+        private final StringWriter buffer = new StringWriter(4096);
+
+        private RenderBatch() {
+        }
+
+        /**
+         * Renders a queued email into a MIME message ready to be sent.
+         *
+         * @param email the queued email
+         * @return the rendered message
+         * @throws MessagingException if the message cannot be built
+         */
+        public MimeMessage render(EmailOutbox email) throws MessagingException {
+            if (email.getTemplate() == null) {
+                throw new MessagingException("Email with id " + email.getId() + " has no template");
+            }
+            var locale = email.getLocale() == null ? DEFAULT_LOCALE : Locale.forLanguageTag(email.getLocale());
+            var prepared = prepare(email.getTemplate(), locale);
+
+            String html;
+            if (prepared.isSplit() && VARIABLES.values().stream().map(value -> value.apply(email)).allMatch(Objects::nonNull)) {
+                html = prepared.join(email);
+            } else {
+                context.clearVariables();
+                context.setLocale(prepared.locale());
+                VARIABLES.forEach((name, value) -> context.setVariable(name, value.apply(email)));
+                buffer.getBuffer().setLength(0);
+                templateEngine.process(prepared.spec(), context, buffer);
+                html = buffer.toString();
+            }
+
+            MimeMessage message = mailSender.createMimeMessage();
+            message.setFrom(from);
+            message.setRecipient(MimeMessage.RecipientType.TO, new InternetAddress(email.getRecipient()));
+            message.setSubject(email.getSubject(), UTF_8.name());
+            message.setContent(html, CONTENT_TYPE);
+            // Setting the encoding up front spares JavaMail from scanning the body to choose one
+            message.setHeader("Content-Transfer-Encoding", TRANSFER_ENCODING);
+            return message;
+        }
+    }
+}
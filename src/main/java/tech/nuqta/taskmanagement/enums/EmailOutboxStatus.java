@@ -0,0 +1,7 @@
+package tech.nuqta.taskmanagement.enums;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -1,6 +1,23 @@
 package tech.nuqta.taskmanagement.enums;
 
+import lombok.Getter;
+
+/**
+ * The roles a user can have. Each role owns one bit of {@code users.role_mask}; bits are stored,
+ * so a role must keep its bit once it has been released.
+ */
+@Getter
 public enum RoleName {
-    USER,
-    ADMIN
+    USER(1),
+    ADMIN(1 << 1);
+
+
+    private final int mask;
+    RoleName(int mask) {
+        this.mask = mask;
+    }
+
+    public boolean in(int roleMask) {
+        return (roleMask & mask) != 0;
+    }
 }
@@ -0,0 +1,7 @@
+package tech.nuqta.taskmanagement.exception;
+
+public class DatabaseBusyException extends RuntimeException {
+    public DatabaseBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package tech.nuqta.taskmanagement.exception;
+
+public class RequestDeadlineExceededException extends RuntimeException {
+    public RequestDeadlineExceededException(String message) {
+        super(message);
+    }
+}
@@ -20,7 +20,11 @@ public enum BusinessErrorCodes {
     BAD_CREDENTIALS(304, FORBIDDEN, "Login and / or Password is incorrect"),
     USER_NOT_FOUND(305, NOT_FOUND, "User not found"),
     APP_CONFLICT(306, CONFLICT, "Conflict occurred while processing the request"),
-    USER_NOT_AUTHORIZED(307, FORBIDDEN, "User is not authorized to perform this operation");
+    USER_NOT_AUTHORIZED(307, FORBIDDEN, "User is not authorized to perform this operation"),
+    RATE_LIMIT_EXCEEDED(308, TOO_MANY_REQUESTS, "Too many requests"),
+    SERVICE_OVERLOADED(309, SERVICE_UNAVAILABLE, "Service is temporarily overloaded"),
+    REQUEST_DEADLINE_EXCEEDED(310, GATEWAY_TIMEOUT, "The request could not be completed in time"),
+    REQUEST_BODY_TOO_LARGE(311, PAYLOAD_TOO_LARGE, "The request body is too large");
 
 
     private final int code;
@@ -1,6 +1,8 @@
 package tech.nuqta.taskmanagement.handler;
 
 
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -9,6 +11,7 @@ import org.springframework.security.authentication.LockedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import tech.nuqta.taskmanagement.exception.*;
 
 import java.util.HashSet;
@@ -181,6 +184,20 @@ public class GlobalExceptionHandler {
                 );
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ExceptionResponse> handleException(MethodArgumentTypeMismatchException exp) {
+        return ResponseEntity
+                .status(BAD_REQUEST)
+                .body(
+                        ExceptionResponse.builder()
+                                .error("Invalid value for parameter " + exp.getName())
+                                .errorCode(BAD_REQUEST.value())
+                                .errorDescription(BAD_REQUEST.getReasonPhrase())
+                                .timestamp(System.currentTimeMillis())
+                                .build()
+                );
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ExceptionResponse> handleException(AccessDeniedException exp) {
         return ResponseEntity
@@ -195,6 +212,35 @@ public class GlobalExceptionHandler {
                 );
     }
 
+    @ExceptionHandler(DatabaseBusyException.class)
+    public ResponseEntity<ExceptionResponse> handleException(DatabaseBusyException exp) {
+        return ResponseEntity
+                .status(SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(
+                        ExceptionResponse.builder()
+                                .errorCode(SERVICE_OVERLOADED.getCode())
+                                .errorDescription(SERVICE_OVERLOADED.getDescription())
+                                .error(exp.getMessage())
+                                .timestamp(System.currentTimeMillis())
+                                .build()
+                );
+    }
+
+    @ExceptionHandler({RequestDeadlineExceededException.class, QueryTimeoutException.class})
+    public ResponseEntity<ExceptionResponse> handleException(RuntimeException exp) {
+        return ResponseEntity
+                .status(GATEWAY_TIMEOUT)
+                .body(
+                        ExceptionResponse.builder()
+                                .errorCode(REQUEST_DEADLINE_EXCEEDED.getCode())
+                                .errorDescription(REQUEST_DEADLINE_EXCEEDED.getDescription())
+                                .error(exp.getMessage())
+                                .timestamp(System.currentTimeMillis())
+                                .build()
+                );
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ExceptionResponse> handleException(Exception exp) {
         return ResponseEntity
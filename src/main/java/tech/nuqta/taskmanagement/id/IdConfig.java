@@ -0,0 +1,44 @@
+package tech.nuqta.taskmanagement.id;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Passes the configured node ID and the highest ID already stored to {@link TimeOrderedIdGenerator},
+ * which Hibernate creates outside the Spring context. The highest ID is looked up when the entity manager factory
+ * is built, after the schema migrations, in every table that holds time-ordered IDs.
+ */
+@Configuration
+@EnableConfigurationProperties(IdProperties.class)
+public class IdConfig {
+    private static final List<String> TABLES =
+            List.of("users", "tasks", "comments", "email_outbox", "tasks_archive", "comments_archive");
+
+    @Bean
+    public HibernatePropertiesCustomizer timeOrderedIdCustomizer(IdProperties properties, JdbcTemplate jdbcTemplate) {
+        if (properties.getNodeId() == null) {
+            throw new IllegalStateException("application.id.node-id is not set; "
+                    + "give every instance that writes to the database its own node ID (NODE_ID)");
+        }
+        return hibernateProperties -> {
+            hibernateProperties.put(TimeOrderedIdGenerator.NODE_ID_SETTING, properties.getNodeId());
+            hibernateProperties.put(TimeOrderedIdGenerator.HIGHEST_ISSUED_ID_SETTING, highestIssuedId(jdbcTemplate));
+        };
+    }
+
+    private static long highestIssuedId(JdbcTemplate jdbcTemplate) {
+        long highest = 0;
+        for (var table : TABLES) {
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table))) {
+                Long max = jdbcTemplate.queryForObject("SELECT max(id) FROM " + table, Long.class);
+                highest = Math.max(highest, max != null ? max : 0);
+            }
+        }
+        return highest;
+    }
+}
@@ -0,0 +1,18 @@
+package tech.nuqta.taskmanagement.id;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of entity ID generation. Every instance that writes to the same database
+ * needs its own {@code node-id}, between 0 and {@value TimeOrderedIds#MAX_NODE_ID}. There is no default,
+ * since two instances left on the same one would generate the same IDs; the application does not start without it.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.id")
+public class IdProperties {
+
+    private Integer nodeId;
+}
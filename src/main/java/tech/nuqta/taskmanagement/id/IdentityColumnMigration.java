@@ -0,0 +1,24 @@
+package tech.nuqta.taskmanagement.id;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import tech.nuqta.taskmanagement.migration.SchemaMigration;
+
+/**
+ * Drops the identity property from the ID columns of tables whose IDs are now generated by {@link TimeOrderedIdGenerator}.
+ * Existing rows keep their IDs, which are far below any time-ordered ID, so new rows still sort after them.
+ * {@code ddl-auto: update} never changes existing columns, hence this migration.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdentityColumnMigration implements SchemaMigration {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void migrate() {
+        for (var table : new String[]{"users", "tasks", "comments", "email_outbox"}) {
+            jdbcTemplate.execute("ALTER TABLE IF EXISTS " + table + " ALTER COLUMN id DROP IDENTITY IF EXISTS");
+        }
+    }
+}
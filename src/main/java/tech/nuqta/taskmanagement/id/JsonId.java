@@ -0,0 +1,21 @@
+package tech.nuqta.taskmanagement.id;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Writes an ID as a JSON string. {@link TimeOrderedIds} are larger than 2<sup>53</sup>, beyond which JavaScript numbers
+ * lose precision, so a browser client would see a different ID than the one it was sent.
+ * Requests may still send IDs as numbers or strings.
+ */
+@JacksonAnnotationsInside
+@JsonFormat(shape = JsonFormat.Shape.STRING)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE})
+public @interface JsonId {
+}
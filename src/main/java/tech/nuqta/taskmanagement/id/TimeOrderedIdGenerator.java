@@ -0,0 +1,45 @@
+package tech.nuqta.taskmanagement.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+/**
+ * Assigns {@link TimeOrderedIds} to new entities before the insert, so no round trip is needed to learn the key
+ * and inserts can be batched. The node ID and the highest ID already stored are read from the
+ * {@value #NODE_ID_SETTING} and {@value #HIGHEST_ISSUED_ID_SETTING} Hibernate settings, which {@link IdConfig} fills.
+ */
+public class TimeOrderedIdGenerator implements BeforeExecutionGenerator {
+    public static final String NODE_ID_SETTING = "application.id.node-id";
+    public static final String HIGHEST_ISSUED_ID_SETTING = "application.id.highest-issued-id";
+
+    private final TimeOrderedIds ids;
+
+    public TimeOrderedIdGenerator(TimeOrderedId config, Member member, CustomIdGeneratorCreationContext context) {
+        var settings = context.getServiceRegistry().requireService(ConfigurationService.class);
+        Integer nodeId = settings.getSetting(NODE_ID_SETTING, StandardConverters.INTEGER);
+        if (nodeId == null) {
+            throw new IllegalStateException("The Hibernate setting " + NODE_ID_SETTING + " is not set");
+        }
+        long highestIssuedId = settings.getSetting(HIGHEST_ISSUED_ID_SETTING,
+                value -> value instanceof Number number ? number.longValue() : Long.parseLong(value.toString()), 0L);
+        this.ids = new TimeOrderedIds(nodeId, highestIssuedId);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return ids.next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
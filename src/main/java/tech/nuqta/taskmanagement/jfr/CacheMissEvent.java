@@ -0,0 +1,18 @@
+package tech.nuqta.taskmanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("tech.nuqta.taskmanagement.CacheMiss")
+@Label("Cache Miss")
+@Description("A lookup in an application cache that found no entry")
+@Category({"Task Management", "Cache"})
+public class CacheMissEvent extends Event {
+    @Label("Cache")
+    public String cache;
+    @Label("Key")
+    public String key;
+}
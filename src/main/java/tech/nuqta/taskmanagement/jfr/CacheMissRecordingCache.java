@@ -0,0 +1,55 @@
+package tech.nuqta.taskmanagement.jfr;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import tech.nuqta.taskmanagement.cache.BulkCache;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A Caffeine cache that emits a {@link CacheMissEvent} for every lookup that finds nothing.
+ */
+public class CacheMissRecordingCache extends CaffeineCache implements BulkCache {
+
+    public CacheMissRecordingCache(String name, Cache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        var value = super.lookup(key);
+        if (value == null) {
+            recordMiss(key);
+        }
+        return value;
+    }
+
+    /**
+     * Looks up many keys at once and records a miss for every key that is not present.
+     */
+    @Override
+    public Map<Object, Object> getAllPresent(Collection<?> keys) {
+        var present = getNativeCache().getAllPresent(keys);
+        for (var key : keys) {
+            if (!present.containsKey(key)) {
+                recordMiss(key);
+            }
+        }
+        return present;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        getNativeCache().putAll(entries);
+    }
+
+    private void recordMiss(Object key) {
+        var event = new CacheMissEvent();
+        if (event.shouldCommit()) {
+            event.cache = getName();
+            event.key = String.valueOf(key);
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package tech.nuqta.taskmanagement.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import tech.nuqta.taskmanagement.exception.AppBadRequestException;
+
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+
+/**
+ * The FlightRecorderService class runs a continuous JDK Flight Recorder session for the lifetime of the application.
+ * The recording is bounded by age and size, so it always holds the most recent history, and can be dumped
+ * on demand when a latency incident needs to be analysed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FlightRecorderService {
+    static final String RECORDING_NAME = "continuous";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final JfrProperties properties;
+    private Recording recording;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() throws IOException, ParseException {
+        if (!properties.isEnabled() || recording != null) {
+            return;
+        }
+        var settings = new HashMap<>(Configuration.getConfiguration(properties.getBaseSettings()).getSettings());
+        settings.put("tech.nuqta.taskmanagement.Request#enabled", "true");
+        settings.put("tech.nuqta.taskmanagement.CacheMiss#enabled", "true");
+        settings.put("tech.nuqta.taskmanagement.JwtVerification#enabled", "true");
+        settings.putAll(properties.getSettings());
+
+        recording = new Recording(settings);
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.getMaxAge());
+        recording.setMaxSize(properties.getMaxSize().toBytes());
+        recording.start();
+        log.info("Started continuous flight recording (max age {}, max size {})",
+                properties.getMaxAge(), properties.getMaxSize());
+    }
+
+    /**
+     * Writes the last {@code window} of the continuous recording to a new file in the dump directory.
+     *
+     * @param window how far back the dump reaches
+     * @return the path of the written file
+     * @throws AppBadRequestException if the window is not positive
+     * @throws IllegalStateException  if the recording is not running or the dump fails
+     */
+    public synchronized Path dump(Duration window) {
+        if (window.isNegative() || window.isZero()) {
+            throw new AppBadRequestException("The dump window must be positive");
+        }
+        if (recording == null) {
+            throw new IllegalStateException("Flight recording is not running");
+        }
+        try {
+            var directory = Files.createDirectories(Path.of(properties.getDumpDirectory()));
+            var file = directory.resolve("task-management-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr")
+                    .toAbsolutePath();
+            // JFR.dump is the only supported way to dump a time window of a running recording
+            ManagementFactory.getPlatformMBeanServer().invoke(
+                    new ObjectName("com.sun.management:type=DiagnosticCommand"),
+                    "jfrDump",
+                    new Object[]{new String[]{
+                            "name=" + RECORDING_NAME,
+                            "maxage=" + window.toSeconds() + "s",
+                            "filename=" + file
+                    }},
+                    new String[]{String[].class.getName()});
+            log.info("Dumped the last {} of the flight recording to {}", window, file);
+            return file;
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not dump the flight recording", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
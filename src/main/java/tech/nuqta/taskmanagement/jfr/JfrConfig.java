@@ -0,0 +1,24 @@
+package tech.nuqta.taskmanagement.jfr;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * The JfrConfig class records a {@link RequestEvent} for every task and comment endpoint
+ * and tracks the endpoint served by each request thread for the {@link PinningMonitor}.
+ */
+@Configuration
+@EnableConfigurationProperties(JfrProperties.class)
+public class JfrConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestEventInterceptor())
+                .addPathPatterns("/api/v1/tasks/**", "/api/v1/comments/**");
+        registry.addInterceptor(new EndpointTrackingInterceptor())
+                .addPathPatterns("/api/**");
+    }
+}
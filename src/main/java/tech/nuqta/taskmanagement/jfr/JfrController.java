@@ -0,0 +1,38 @@
+package tech.nuqta.taskmanagement.jfr;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import tech.nuqta.taskmanagement.common.ResponseMessage;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/v1/admin/jfr")
+@RequiredArgsConstructor
+@Tag(name = "Diagnostics", description = "Endpoints for collecting diagnostic data")
+public class JfrController {
+    private final FlightRecorderService flightRecorderService;
+
+    @Operation(summary = "Dump the last minutes of the continuous flight recording to a file on the server")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recording dumped successfully",
+                    content = { @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseMessage.class)) })
+    })
+    @PostMapping("/dump")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<ResponseMessage> dump(@RequestParam(defaultValue = "10") int minutes) {
+        var file = flightRecorderService.dump(Duration.ofMinutes(minutes));
+        return ResponseEntity.ok(new ResponseMessage(file.toString(), "Flight recording dumped successfully"));
+    }
+}
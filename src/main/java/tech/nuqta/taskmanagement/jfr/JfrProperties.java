@@ -0,0 +1,39 @@
+package tech.nuqta.taskmanagement.jfr;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the continuous flight recording. The recording keeps at most {@code maxAge} and
+ * {@code maxSize} of data on disk, starts from the JDK settings named by {@code baseSettings}
+ * and applies {@code settings} on top, for example {@code jdk.ThreadPark#threshold: 20 ms}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.jfr")
+public class JfrProperties {
+
+    private boolean enabled = true;
+    private String baseSettings = "default";
+    private Duration maxAge = Duration.ofMinutes(30);
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+    private String dumpDirectory = "jfr-dumps";
+    private Map<String, String> settings = new HashMap<>();
+    private Pinning pinning = new Pinning();
+
+    /**
+     * Virtual threads blocked while pinned to their carrier for at least {@code threshold} are reported.
+     */
+    @Getter
+    @Setter
+    public static class Pinning {
+        private boolean enabled = true;
+        private Duration threshold = Duration.ofMillis(20);
+    }
+}
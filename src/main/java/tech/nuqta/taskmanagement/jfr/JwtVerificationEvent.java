@@ -0,0 +1,18 @@
+package tech.nuqta.taskmanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("tech.nuqta.taskmanagement.JwtVerification")
+@Label("JWT Verification")
+@Description("Signature check and parsing of a JWT")
+@Category({"Task Management", "Security"})
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+    @Label("Valid")
+    public boolean valid;
+}
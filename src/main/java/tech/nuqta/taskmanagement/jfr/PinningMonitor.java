@@ -0,0 +1,145 @@
+package tech.nuqta.taskmanagement.jfr;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * The PinningMonitor class streams {@code jdk.VirtualThreadPinned} and {@code jdk.VirtualThreadSubmitFailed}
+ * events from the running JVM. Every pinning is attributed to the endpoint the thread was serving and to the
+ * pinning site, the innermost non-JDK frame, and recorded as {@code jvm.threads.virtual.pinned}.
+ * Failed submits to the carrier pool, a sign of carrier starvation, are counted as
+ * {@code jvm.threads.virtual.submit-failed}. The first occurrence of each site is logged with its stack.
+ */
+@Component
+@Slf4j
+public class PinningMonitor {
+    private static final String PINNED = "jdk.VirtualThreadPinned";
+    private static final String SUBMIT_FAILED = "jdk.VirtualThreadSubmitFailed";
+    private static final int LOGGED_FRAMES = 15;
+
+    private final JfrProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Counter submitFailures;
+    private final Set<String> sites = ConcurrentHashMap.newKeySet();
+    private final AtomicLong flushes = new AtomicLong();
+    private RecordingStream stream;
+
+    public PinningMonitor(JfrProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.submitFailures = Counter.builder("jvm.threads.virtual.submit-failed")
+                .description("Virtual threads that could not be scheduled on a carrier")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!properties.getPinning().isEnabled() || stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED).withThreshold(properties.getPinning().getThreshold()).withStackTrace();
+        stream.enable(SUBMIT_FAILED).withStackTrace();
+        stream.onEvent(PINNED, this::onPinned);
+        stream.onEvent(SUBMIT_FAILED, this::onSubmitFailed);
+        stream.onFlush(flushes::incrementAndGet);
+        stream.startAsync();
+        log.info("Monitoring virtual thread pinning above {}", properties.getPinning().getThreshold());
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    /**
+     * Returns the pinning sites seen so far, formatted as {@code class.method}.
+     *
+     * @return the distinct pinning sites
+     */
+    public Set<String> pinnedSites() {
+        return Set.copyOf(sites);
+    }
+
+    /**
+     * Waits until the stream has delivered all events recorded before this call.
+     *
+     * @param timeout the maximum time to wait
+     * @return false if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitFlush(Duration timeout) throws InterruptedException {
+        // an event may be in the chunk being flushed when this is called, so wait for the one after it
+        long target = flushes.get() + 2;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (flushes.get() < target) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(50);
+        }
+        return true;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        var endpoint = event.getThread() != null
+                ? ThreadEndpoints.of(event.getThread().getJavaThreadId(), event.getStartTime())
+                : ThreadEndpoints.UNKNOWN;
+        var site = site(event);
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads spent blocked while pinned to their carrier")
+                .tags("endpoint", endpoint, "site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+        if (sites.add(site)) {
+            log.warn("Virtual thread pinned for {} ms at new site {} on endpoint {}:\n{}",
+                    event.getDuration().toMillis(), site, endpoint, stack(event));
+        }
+    }
+
+    private void onSubmitFailed(RecordedEvent event) {
+        submitFailures.increment();
+        log.warn("Virtual thread could not be scheduled on a carrier:\n{}", stack(event));
+    }
+
+    private static String site(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return ThreadEndpoints.UNKNOWN;
+        }
+        return event.getStackTrace().getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .filter(name -> !name.startsWith("java.") && !name.startsWith("jdk.") && !name.startsWith("sun."))
+                .findFirst()
+                .orElse(ThreadEndpoints.UNKNOWN);
+    }
+
+    private static String stack(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "\t(no stack trace)";
+        }
+        return event.getStackTrace().getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,24 @@
+package tech.nuqta.taskmanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("tech.nuqta.taskmanagement.Request")
+@Label("Request")
+@Description("A request handled by the task or comment controller")
+@Category({"Task Management", "Web"})
+@StackTrace(false)
+public class RequestEvent extends Event {
+    @Label("Method")
+    public String method;
+    @Label("URI Pattern")
+    public String uri;
+    @Label("Handler")
+    public String handler;
+    @Label("Status")
+    public int status;
+}
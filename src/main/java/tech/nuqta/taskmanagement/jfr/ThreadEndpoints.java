@@ -0,0 +1,95 @@
+package tech.nuqta.taskmanagement.jfr;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Tracks which endpoint each request thread served and when, so events read back from a
+ * recording stream can be attributed to the endpoint that caused them. A recording stream delivers
+ * events about once a second, usually after the request has finished, so finished visits are kept for
+ * {@link #RETENTION} and looked up by the time of the event.
+ */
+final class ThreadEndpoints {
+    static final String UNKNOWN = "unknown";
+    static final Duration RETENTION = Duration.ofSeconds(30);
+
+    private static final Map<Long, Deque<Visit>> VISITS = new ConcurrentHashMap<>();
+    private static final Queue<Expiry> EXPIRIES = new ConcurrentLinkedQueue<>();
+
+    private ThreadEndpoints() {
+    }
+
+    static void enter(String endpoint) {
+        var visit = new Visit(endpoint, Instant.now());
+        VISITS.compute(Thread.currentThread().threadId(), (id, visits) -> {
+            var deque = visits != null ? visits : new ConcurrentLinkedDeque<Visit>();
+            deque.addLast(visit);
+            return deque;
+        });
+    }
+
+    static void exit() {
+        var threadId = Thread.currentThread().threadId();
+        var now = Instant.now();
+        var visits = VISITS.get(threadId);
+        if (visits == null || visits.peekLast() == null) {
+            return;
+        }
+        visits.peekLast().end = now;
+        EXPIRIES.add(new Expiry(threadId, now.plus(RETENTION)));
+        evictExpired(now);
+    }
+
+    /**
+     * Returns the endpoint the thread was serving at the given time.
+     *
+     * @param threadId the Java thread ID
+     * @param at       the time of the event
+     * @return the endpoint, or {@link #UNKNOWN} if the thread was not serving a request then
+     */
+    static String of(long threadId, Instant at) {
+        var visits = VISITS.get(threadId);
+        if (visits == null) {
+            return UNKNOWN;
+        }
+        var iterator = visits.descendingIterator();
+        while (iterator.hasNext()) {
+            var visit = iterator.next();
+            var end = visit.end;
+            if (!at.isBefore(visit.start) && (end == null || !at.isAfter(end))) {
+                return visit.endpoint;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    private static void evictExpired(Instant now) {
+        Expiry expiry;
+        while ((expiry = EXPIRIES.peek()) != null && expiry.at().isBefore(now) && EXPIRIES.remove(expiry)) {
+            VISITS.computeIfPresent(expiry.threadId(), (id, visits) -> {
+                visits.pollFirst();
+                return visits.isEmpty() ? null : visits;
+            });
+        }
+    }
+
+    private static final class Visit {
+        private final String endpoint;
+        private final Instant start;
+        private volatile Instant end;
+
+        private Visit(String endpoint, Instant start) {
+            this.endpoint = endpoint;
+            this.start = start;
+        }
+    }
+
+    private record Expiry(long threadId, Instant at) {
+    }
+}
@@ -3,8 +3,6 @@ package tech.nuqta.taskmanagement.mapper;
 import tech.nuqta.taskmanagement.comment.dto.CommentDto;
 import tech.nuqta.taskmanagement.comment.entity.CommentEntity;
 
-import java.util.List;
-
 public class CommentMapper {
     public static CommentDto toDto(CommentEntity entity) {
         return new CommentDto(
@@ -18,7 +16,4 @@ public class CommentMapper {
                 entity.getAuthor().getId()
         );
     }
-    public static List<CommentDto> toDtoList(List<CommentEntity> content) {
-        return content.stream().map(CommentMapper::toDto).toList();
-    }
 }
@@ -1,5 +1,6 @@
 package tech.nuqta.taskmanagement.mapper;
 
+import tech.nuqta.taskmanagement.compression.CompressedText;
 import tech.nuqta.taskmanagement.task.dto.TaskDto;
 import tech.nuqta.taskmanagement.task.dto.request.TaskCreateRequest;
 import tech.nuqta.taskmanagement.task.dto.request.TaskUpdateRequest;
@@ -28,7 +29,7 @@ public class TaskMapper {
     public static TaskEntity toEntity(TaskCreateRequest request, User author, User assignee) {
         TaskEntity entity = new TaskEntity();
         entity.setTitle(request.getTitle());
-        entity.setDescription(request.getDescription());
+        entity.setDescription(CompressedText.of(request.getDescription()));
         entity.setStatus(request.getStatus());
         entity.setPriority(request.getPriority());
         entity.setAuthor(author);
@@ -38,7 +39,7 @@ public class TaskMapper {
 
     public static TaskEntity toEntity(TaskUpdateRequest request, TaskEntity entity) {
         entity.setTitle(request.getTitle());
-        entity.setDescription(request.getDescription());
+        entity.setDescription(CompressedText.of(request.getDescription()));
         entity.setStatus(request.getStatus());
         entity.setPriority(request.getPriority());
         return entity;
@@ -0,0 +1,31 @@
+package tech.nuqta.taskmanagement.migration;
+
+import org.springframework.core.Ordered;
+
+/**
+ * A change to the database schema that {@code ddl-auto: update} cannot make, such as changing a column type.
+ * Migrations are run by {@link SchemaMigrations} before the application serves requests, in the order of
+ * {@link #getOrder()}; the constants below fix that order where one migration relies on the result of another.
+ * A migration is run on every start and must check what it still has to do.
+ */
+public interface SchemaMigration extends Ordered {
+    /**
+     * Task descriptions and comment bodies become {@code bytea}.
+     */
+    int TEXT_COMPRESSION = 100;
+    /**
+     * Tasks and comments become partitioned and get archive tables, which copy the column types of the live tables
+     * and so must see the converted text columns.
+     */
+    int PARTITIONING = 200;
+
+    void migrate();
+
+    /**
+     * Migrations that neither rely on another nor are relied on run first.
+     */
+    @Override
+    default int getOrder() {
+        return 0;
+    }
+}
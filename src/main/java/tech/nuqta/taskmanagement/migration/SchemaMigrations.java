@@ -0,0 +1,49 @@
+package tech.nuqta.taskmanagement.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.core.OrderComparator;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Runs the {@link SchemaMigration}s twice during startup. The first run happens before the entity manager factory
+ * is created, so Hibernate's schema update sees the migrated tables; the second after all singletons are created,
+ * which covers tables the schema update has just created, and still before the web server and the scheduled jobs start.
+ */
+@Component(SchemaMigrations.BEAN_NAME)
+@RequiredArgsConstructor
+@Slf4j
+public class SchemaMigrations implements InitializingBean, SmartInitializingSingleton {
+    static final String BEAN_NAME = "schemaMigrations";
+
+    private final List<SchemaMigration> migrations;
+
+    @Override
+    public void afterPropertiesSet() {
+        migrate();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrate();
+    }
+
+    private void migrate() {
+        for (var migration : migrations.stream().sorted(OrderComparator.INSTANCE).toList()) {
+            log.debug("Running schema migration {}", migration.getClass().getSimpleName());
+            migration.migrate();
+        }
+    }
+
+    @Component
+    static class EntityManagerFactoryDependsOnSchemaMigrations extends EntityManagerFactoryDependsOnPostProcessor {
+        EntityManagerFactoryDependsOnSchemaMigrations() {
+            super(BEAN_NAME);
+        }
+    }
+}
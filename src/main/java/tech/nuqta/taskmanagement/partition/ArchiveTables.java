@@ -0,0 +1,28 @@
+package tech.nuqta.taskmanagement.partition;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Knows how rows of a live table map onto its {@code <table>_archive} table created by {@link PartitionMigration}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ArchiveTables {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns the columns of a live table that its archive table has as well, comma-separated
+     * in the order of the live table, for copying rows by column name.
+     */
+    public String sharedColumns(String table) {
+        return String.join(", ", jdbcTemplate.queryForList("""
+                SELECT c.column_name FROM information_schema.columns c
+                WHERE c.table_schema = current_schema() AND c.table_name = ?
+                    AND EXISTS (SELECT 1 FROM information_schema.columns a
+                                WHERE a.table_schema = c.table_schema AND a.table_name = ? AND a.column_name = c.column_name)
+                ORDER BY c.ordinal_position
+                """, String.class, table, table + "_archive"));
+    }
+}
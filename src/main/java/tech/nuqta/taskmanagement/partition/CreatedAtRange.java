@@ -0,0 +1,72 @@
+package tech.nuqta.taskmanagement.partition;
+
+import jakarta.persistence.EntityManager;
+import tech.nuqta.taskmanagement.id.TimeOrderedIds;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * The range of {@code created_at} that rows with given time-ordered IDs fall in, so lookups by ID
+ * can tell PostgreSQL which monthly partitions to search instead of probing the primary key of every one.
+ * <p>
+ * An ID's timestamp and its row's {@code created_at} are taken from the same clock when the row is saved,
+ * but may still differ: IDs can run ahead of the clock after a restart or under load, node clocks drift, and
+ * {@code created_at} is stored in the local time of the instance that wrote it. {@link #SKEW} on each side covers
+ * all of these. IDs issued before the switch to time-ordered IDs carry no timestamp, so they get no range.
+ */
+public record CreatedAtRange(LocalDateTime from, LocalDateTime to) {
+    public static final Duration SKEW = Duration.ofDays(2);
+
+    private static final long IDS_PER_MILLISECOND = 1L << (TimeOrderedIds.NODE_BITS + TimeOrderedIds.SEQUENCE_BITS);
+
+    public static Optional<CreatedAtRange> of(long id) {
+        if (!isTimeOrdered(id)) {
+            return Optional.empty();
+        }
+        return Optional.of(new CreatedAtRange(localTime(id, SKEW.negated()), localTime(id, SKEW)));
+    }
+
+    public static Optional<CreatedAtRange> of(Collection<Long> ids) {
+        if (ids.isEmpty() || !ids.stream().allMatch(CreatedAtRange::isTimeOrdered)) {
+            return Optional.empty();
+        }
+        long min = ids.stream().mapToLong(Long::longValue).min().orElseThrow();
+        long max = ids.stream().mapToLong(Long::longValue).max().orElseThrow();
+        return Optional.of(new CreatedAtRange(localTime(min, SKEW.negated()), localTime(max, SKEW)));
+    }
+
+    /**
+     * Finds an entity of a partitioned table by ID. The second-level cache is asked first, as {@code find} would;
+     * otherwise the row is read with the ID's {@code created_at} range, and the entity is cached as usual.
+     */
+    public static <T> Optional<T> find(EntityManager entityManager, Class<T> type, Long id) {
+        var range = of(id);
+        if (range.isEmpty() || entityManager.getEntityManagerFactory().getCache().contains(type, id)) {
+            return Optional.ofNullable(entityManager.find(type, id));
+        }
+        var entity = entityManager.getMetamodel().entity(type).getName();
+        return entityManager.createQuery(
+                        "SELECT e FROM " + entity + " e WHERE e.id = :id AND e.createdAt BETWEEN :from AND :to", type)
+                .setParameter("id", id)
+                .setParameter("from", range.get().from())
+                .setParameter("to", range.get().to())
+                .getResultStream()
+                .findFirst();
+    }
+
+    /**
+     * Identity values from before time-ordered IDs decode to the first moments after {@link TimeOrderedIds#EPOCH},
+     * long before any time-ordered ID was issued.
+     */
+    private static boolean isTimeOrdered(Long id) {
+        return id != null && id >= IDS_PER_MILLISECOND * SKEW.toMillis();
+    }
+
+    private static LocalDateTime localTime(long id, Duration offset) {
+        return LocalDateTime.ofInstant(TimeOrderedIds.timestamp(id).plus(offset), ZoneId.systemDefault());
+    }
+}
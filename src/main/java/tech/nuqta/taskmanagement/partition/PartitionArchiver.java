@@ -0,0 +1,173 @@
+package tech.nuqta.taskmanagement.partition;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.nuqta.taskmanagement.comment.entity.CommentEntity;
+import tech.nuqta.taskmanagement.task.entity.TaskEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Moves soft-deleted tasks, tasks that have been {@code DONE} for longer than the retention, and their comments,
+ * as well as soft-deleted comments, from the live tables into {@code tasks_archive} and {@code comments_archive}.
+ * <p>
+ * Each batch is one transaction that claims its rows with {@code FOR UPDATE SKIP LOCKED}, so requests working
+ * on the same rows are never blocked by the archiver, and gives up on other locks after the lock timeout.
+ * A run pauses between batches and stops after {@code max-run-time} or at the first lock timeout;
+ * whatever is left is moved by the next run.
+ */
+@Component
+@Slf4j
+public class PartitionArchiver {
+    private static final String ARCHIVE_TASKS = """
+            WITH batch AS (
+                SELECT id, created_at FROM tasks
+                WHERE (is_deleted OR status = 'DONE') AND (is_deleted OR coalesce(updated_at, created_at) < ?)
+                ORDER BY created_at, id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), moved_comments AS (
+                DELETE FROM comments c USING batch b
+                WHERE c.task_id = b.id
+                RETURNING c.*
+            ), archived_comments AS (
+                INSERT INTO comments_archive (%2$s) SELECT %2$s FROM moved_comments
+            ), moved AS (
+                DELETE FROM tasks t USING batch b
+                WHERE t.id = b.id AND t.created_at = b.created_at
+                RETURNING t.*
+            )
+            INSERT INTO tasks_archive (%1$s) SELECT %1$s FROM moved
+            RETURNING id
+            """;
+    private static final String ARCHIVE_COMMENTS = """
+            WITH batch AS (
+                SELECT id, created_at FROM comments
+                WHERE is_deleted
+                ORDER BY created_at, id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), moved AS (
+                DELETE FROM comments c USING batch b
+                WHERE c.id = b.id AND c.created_at = b.created_at
+                RETURNING c.*
+            )
+            INSERT INTO comments_archive (%1$s) SELECT %1$s FROM moved
+            RETURNING id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager cacheManager;
+    private final ArchiveTables archiveTables;
+    private final PartitioningProperties.Archive properties;
+    private final Counter archivedTasks;
+    private final Counter archivedComments;
+
+    public PartitionArchiver(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                             EntityManagerFactory entityManagerFactory, CacheManager cacheManager,
+                             ArchiveTables archiveTables, PartitioningProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.cacheManager = cacheManager;
+        this.archiveTables = archiveTables;
+        this.properties = properties.getArchive();
+        this.archivedTasks = archived(meterRegistry, "tasks");
+        this.archivedComments = archived(meterRegistry, "comments");
+    }
+
+    @Scheduled(fixedDelayString = "${application.partitioning.archive.interval:PT5M}",
+            initialDelayString = "${application.partitioning.archive.interval:PT5M}")
+    public void archive() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        var deadline = System.nanoTime() + properties.getMaxRunTime().toNanos();
+        var cutoff = LocalDateTime.now().minus(properties.getDoneRetention());
+        var taskSql = ARCHIVE_TASKS.formatted(archiveTables.sharedColumns("tasks"), archiveTables.sharedColumns("comments"));
+        var commentSql = ARCHIVE_COMMENTS.formatted(archiveTables.sharedColumns("comments"));
+
+        long tasks = drain(deadline, () -> archiveBatch(taskSql, cutoff, properties.getBatchSize()), ids -> {
+            archivedTasks.increment(ids.size());
+            var cache = entityManagerFactory.getCache();
+            ids.forEach(id -> cache.evict(TaskEntity.class, id));
+            cache.evict(CommentEntity.class);
+            clear("tasks");
+            clear("comments");
+        });
+        long comments = drain(deadline, () -> archiveBatch(commentSql, properties.getBatchSize()), ids -> {
+            archivedComments.increment(ids.size());
+            var cache = entityManagerFactory.getCache();
+            ids.forEach(id -> cache.evict(CommentEntity.class, id));
+            clear("comments");
+        });
+        if (tasks > 0 || comments > 0) {
+            log.info("Archived {} tasks and {} soft-deleted comments", tasks, comments);
+        }
+    }
+
+    /**
+     * Runs batches until one comes back short or the deadline passes, pausing between batches.
+     *
+     * @return the number of rows moved
+     */
+    private long drain(long deadline, Supplier<List<Long>> batch, Consumer<List<Long>> onMoved) {
+        long total = 0;
+        while (System.nanoTime() < deadline) {
+            List<Long> ids;
+            try {
+                ids = batch.get();
+            } catch (CannotAcquireLockException e) {
+                log.debug("Archive batch gave up waiting for a lock, leaving the rest for the next run", e);
+                break;
+            }
+            if (!ids.isEmpty()) {
+                onMoved.accept(ids);
+                total += ids.size();
+            }
+            if (ids.size() < properties.getBatchSize()) {
+                break;
+            }
+            try {
+                Thread.sleep(properties.getBatchPause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return total;
+    }
+
+    private List<Long> archiveBatch(String sql, Object... args) {
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL lock_timeout = " + properties.getLockTimeout().toMillis());
+            return jdbcTemplate.queryForList(sql, Long.class, args);
+        });
+    }
+
+    private void clear(String cacheName) {
+        Optional.ofNullable(cacheManager.getCache(cacheName)).ifPresent(Cache::clear);
+    }
+
+    private static Counter archived(MeterRegistry meterRegistry, String table) {
+        return Counter.builder("partition.archived.rows")
+                .description("Rows moved from a live table into its archive table")
+                .tag("table", table)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,58 @@
+package tech.nuqta.taskmanagement.partition;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Creates the monthly partitions of {@code tasks} and {@code comments} ahead of time, named {@code <table>_YYYY_MM}.
+ * There is no default partition, so a row whose {@code created_at} has no partition is rejected;
+ * {@link PartitioningProperties#getMonthsAhead()} keeps enough months open for the application to be down for a while.
+ * {@link PartitionMigration} runs the maintenance once on start.
+ */
+@Component
+@RequiredArgsConstructor
+public class PartitionMaintainer {
+    static final List<String> TABLES = List.of("tasks", "comments");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitioningProperties properties;
+
+    @Scheduled(fixedDelayString = "${application.partitioning.maintenance-interval:PT12H}",
+            initialDelayString = "${application.partitioning.maintenance-interval:PT12H}")
+    public void createUpcomingPartitions() {
+        for (var table : TABLES) {
+            createPartitions(table, "date_trunc('month', localtimestamp)");
+        }
+    }
+
+    /**
+     * Creates the partitions of one table from the month of {@code from}, an SQL expression,
+     * up to the configured number of months after the current one. Does nothing if the table is not partitioned.
+     */
+    void createPartitions(String table, String from) {
+        jdbcTemplate.execute("DO $$\n" + createPartitionsBlock(table, from) + "$$");
+    }
+
+    /**
+     * Returns the PL/pgSQL block that {@link #createPartitions} runs, for use inside a larger block.
+     */
+    String createPartitionsBlock(String table, String from) {
+        return """
+                DECLARE m timestamp;
+                BEGIN
+                    IF EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('%1$s')) THEN
+                        FOR m IN SELECT generate_series(date_trunc('month', %2$s),
+                                date_trunc('month', localtimestamp) + interval '%3$d months', interval '1 month')
+                        LOOP
+                            EXECUTE format('CREATE TABLE IF NOT EXISTS %%I PARTITION OF %1$s FOR VALUES FROM (%%L) TO (%%L)',
+                                    '%1$s_' || to_char(m, 'YYYY_MM'), m, m + interval '1 month');
+                        END LOOP;
+                    END IF;
+                END;
+                """.formatted(table, from, properties.getMonthsAhead());
+    }
+}
@@ -0,0 +1,124 @@
+package tech.nuqta.taskmanagement.partition;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import tech.nuqta.taskmanagement.migration.SchemaMigration;
+
+import java.util.List;
+
+/**
+ * Turns {@code tasks} and {@code comments} into tables partitioned by month of {@code created_at}
+ * and creates their {@code _archive} tables for the {@link PartitionArchiver}.
+ * <p>
+ * A table that is not partitioned yet is renamed, recreated as a partitioned table with the same columns,
+ * copied over and dropped, all in one {@code DO} block and so in one transaction. The primary key becomes
+ * {@code (id, created_at)}, as PostgreSQL requires for partitioned tables, so {@code comments.task_id} can no longer
+ * have a foreign key to {@code tasks}. {@code LIKE} does not copy foreign keys, so the references to {@code users}
+ * are added back, also to tables partitioned by earlier versions that lost them.
+ * The copy locks the table for its duration, which happens once per database.
+ * {@code ddl-auto: update} cannot create partitioned tables, hence this migration.
+ */
+@Component
+@RequiredArgsConstructor
+public class PartitionMigration implements SchemaMigration {
+    private static final List<String[]> USER_REFERENCES = List.of(
+            new String[]{"tasks", "author_id"},
+            new String[]{"tasks", "assignee_id"},
+            new String[]{"comments", "author_id"});
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitionMaintainer maintainer;
+
+    @Override
+    public int getOrder() {
+        return PARTITIONING;
+    }
+
+    @Override
+    public void migrate() {
+        for (var table : PartitionMaintainer.TABLES) {
+            partition(table);
+            createArchiveTable(table);
+        }
+        for (var reference : USER_REFERENCES) {
+            addUserReference(reference[0], reference[1]);
+        }
+        maintainer.createUpcomingPartitions();
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS tasks_created_at_idx ON tasks (created_at)");
+        jdbcTemplate.execute("""
+                CREATE INDEX IF NOT EXISTS tasks_archivable_idx ON tasks (created_at, id)
+                WHERE is_deleted OR status = 'DONE'
+                """);
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS comments_created_at_idx ON comments (created_at)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS comments_task_id_idx ON comments (task_id, created_at)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS comments_deleted_idx ON comments (created_at, id) WHERE is_deleted");
+    }
+
+    private void partition(String table) {
+        var legacy = table + "_unpartitioned";
+        jdbcTemplate.execute("""
+                DO $$
+                BEGIN
+                    IF to_regclass('%1$s') IS NULL
+                            OR EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('%1$s')) THEN
+                        RETURN;
+                    END IF;
+                    ALTER TABLE %1$s RENAME TO %2$s;
+                    CREATE TABLE %1$s (LIKE %2$s INCLUDING DEFAULTS INCLUDING STORAGE INCLUDING COMPRESSION)
+                        PARTITION BY RANGE (created_at);
+                    ALTER TABLE %1$s ADD PRIMARY KEY (id, created_at);
+                    %3$s
+                    INSERT INTO %1$s SELECT * FROM %2$s;
+                    DROP TABLE %2$s CASCADE;
+                END $$
+                """.formatted(table, legacy, maintainer.createPartitionsBlock(table,
+                "coalesce((SELECT min(created_at) FROM " + legacy + "), localtimestamp)")));
+    }
+
+    private void addUserReference(String table, String column) {
+        jdbcTemplate.execute("""
+                DO $$
+                BEGIN
+                    IF to_regclass('%1$s') IS NOT NULL AND to_regclass('users') IS NOT NULL AND NOT EXISTS (
+                            SELECT 1 FROM pg_constraint con
+                            JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = ANY (con.conkey)
+                            WHERE con.conrelid = to_regclass('%1$s') AND con.contype = 'f'
+                                AND con.confrelid = to_regclass('users') AND att.attname = '%2$s') THEN
+                        ALTER TABLE %1$s ADD CONSTRAINT %1$s_%2$s_fkey FOREIGN KEY (%2$s) REFERENCES users (id);
+                    END IF;
+                END $$
+                """.formatted(table, column));
+    }
+
+    /**
+     * Creates the archive table of a live table and adds any columns the live table gained since,
+     * so the archiver can copy rows by column name.
+     */
+    private void createArchiveTable(String table) {
+        jdbcTemplate.execute("""
+                DO $$
+                DECLARE c record;
+                BEGIN
+                    IF to_regclass('%1$s') IS NULL THEN
+                        RETURN;
+                    END IF;
+                    CREATE TABLE IF NOT EXISTS %1$s_archive (
+                        LIKE %1$s INCLUDING DEFAULTS INCLUDING STORAGE INCLUDING COMPRESSION,
+                        archived_at timestamp NOT NULL DEFAULT localtimestamp,
+                        PRIMARY KEY (id)
+                    );
+                    FOR c IN
+                        SELECT att.attname, format_type(att.atttypid, att.atttypmod) AS type
+                        FROM pg_attribute att
+                        WHERE att.attrelid = '%1$s'::regclass AND att.attnum > 0 AND NOT att.attisdropped
+                            AND NOT EXISTS (SELECT 1 FROM pg_attribute a
+                                            WHERE a.attrelid = '%1$s_archive'::regclass AND a.attname = att.attname)
+                    LOOP
+                        EXECUTE format('ALTER TABLE %1$s_archive ADD COLUMN %%I %%s', c.attname, c.type);
+                    END LOOP;
+                END $$
+                """.formatted(table));
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + table + "_archive_archived_at_idx ON " + table + "_archive (archived_at)");
+    }
+}
@@ -0,0 +1,42 @@
+package tech.nuqta.taskmanagement.partition;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the monthly partitions of {@code tasks} and {@code comments} and of the archiver
+ * that moves dead rows out of them.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.partitioning")
+public class PartitioningProperties {
+
+    /**
+     * Number of months after the current one for which partitions are created in advance.
+     */
+    private int monthsAhead = 3;
+    private Duration maintenanceInterval = Duration.ofHours(12);
+    private Archive archive = new Archive();
+
+    @Getter
+    @Setter
+    public static class Archive {
+        private boolean enabled = true;
+        private Duration interval = Duration.ofMinutes(5);
+        /**
+         * How long a task stays {@code DONE} without changes before it is archived.
+         */
+        private Duration doneRetention = Duration.ofDays(90);
+        private int batchSize = 500;
+        private Duration batchPause = Duration.ofMillis(200);
+        /**
+         * Longest time a single run keeps moving batches; the rest is left for the next run.
+         */
+        private Duration maxRunTime = Duration.ofMinutes(1);
+        private Duration lockTimeout = Duration.ofSeconds(2);
+    }
+}
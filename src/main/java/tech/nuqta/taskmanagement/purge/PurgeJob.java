@@ -0,0 +1,264 @@
+package tech.nuqta.taskmanagement.purge;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.nuqta.taskmanagement.comment.entity.CommentEntity;
+import tech.nuqta.taskmanagement.partition.ArchiveTables;
+import tech.nuqta.taskmanagement.task.entity.TaskEntity;
+import tech.nuqta.taskmanagement.token.ActivationTokenProperties;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Removes data nobody can reach any more, one table at a time:
+ * <ul>
+ *     <li>archived tasks and comments older than the archive retention;</li>
+ *     <li>comments whose task no longer exists, which are moved to the archive;</li>
+ *     <li>tasks and comments of users deleted longer than the deleted-user retention ago, which are soft-deleted
+ *     and then archived by the {@link tech.nuqta.taskmanagement.partition.PartitionArchiver};</li>
+ *     <li>activation tokens past their retention and tokens of deleted users.</li>
+ * </ul>
+ * Each step walks its table in ID order: a chunk scans the next {@code chunk-size} rows after the cursor
+ * and acts on those that qualify, so a chunk does the same bounded amount of work however few rows qualify.
+ * Chunks are separate transactions under a statement and lock timeout, with a pause between them.
+ * A step that times out, or a run that reaches {@code max-run-time}, keeps its cursor for the next run.
+ * <p>
+ * A run holds a session-level advisory lock on a connection of its own, so when several instances share
+ * the database only one of them purges at a time; the others skip their run. Cursors are kept in memory,
+ * so an instance that takes over starts from its own cursor, at worst scanning rows once more.
+ */
+@Component
+@Slf4j
+public class PurgeJob {
+    private static final String RESULT = "SELECT (SELECT max(id) FROM scanned), (SELECT count(*) FROM purged)";
+    private static final String LOCK_KEY = "hashtext('tech.nuqta.taskmanagement.purge.PurgeJob')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager cacheManager;
+    private final ArchiveTables archiveTables;
+    private final PurgeProperties properties;
+    private final ActivationTokenProperties tokenProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Long> cursors = new ConcurrentHashMap<>();
+
+    public PurgeJob(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                    EntityManagerFactory entityManagerFactory, CacheManager cacheManager, ArchiveTables archiveTables,
+                    PurgeProperties properties, ActivationTokenProperties tokenProperties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.cacheManager = cacheManager;
+        this.archiveTables = archiveTables;
+        this.properties = properties;
+        this.tokenProperties = tokenProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${application.purge.interval:PT1H}",
+            initialDelayString = "${application.purge.interval:PT1H}")
+    public void purge() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!advisoryLock(connection, "pg_try_advisory_lock")) {
+                log.debug("Purge skipped, another instance is running it");
+                return null;
+            }
+            try {
+                purgeSteps();
+            } finally {
+                advisoryLock(connection, "pg_advisory_unlock");
+            }
+            return null;
+        });
+    }
+
+    private void purgeSteps() {
+        var deadline = System.nanoTime() + properties.getMaxRunTime().toNanos();
+        var now = LocalDateTime.now();
+        for (var step : steps(now)) {
+            if (System.nanoTime() >= deadline) {
+                log.info("Purge stopped after {}, continuing with step {} next run", properties.getMaxRunTime(), step.name());
+                return;
+            }
+            run(step, deadline);
+        }
+    }
+
+    private List<Step> steps(LocalDateTime now) {
+        var archiveCutoff = now.minus(properties.getArchiveRetention());
+        var deletedUserCutoff = now.minus(properties.getDeletedUserRetention());
+        var commentColumns = archiveTables.sharedColumns("comments");
+        return List.of(
+                new Step("tasks-archive", """
+                        WITH scanned AS (SELECT id FROM tasks_archive WHERE id > ? ORDER BY id LIMIT ?),
+                        purged AS (
+                            DELETE FROM tasks_archive a USING scanned s
+                            WHERE a.id = s.id AND a.archived_at < ?
+                            RETURNING a.id
+                        )
+                        """, archiveCutoff, null),
+                new Step("comments-archive", """
+                        WITH scanned AS (SELECT id FROM comments_archive WHERE id > ? ORDER BY id LIMIT ?),
+                        purged AS (
+                            DELETE FROM comments_archive a USING scanned s
+                            WHERE a.id = s.id AND a.archived_at < ?
+                            RETURNING a.id
+                        )
+                        """, archiveCutoff, null),
+                new Step("orphaned-comments", """
+                        WITH scanned AS (SELECT id, created_at FROM comments WHERE id > ? ORDER BY id LIMIT ?),
+                        purged AS (
+                            DELETE FROM comments c USING scanned s
+                            WHERE c.id = s.id AND c.created_at = s.created_at
+                                AND NOT EXISTS (SELECT 1 FROM tasks t WHERE t.id = c.task_id)
+                            RETURNING c.*
+                        ),
+                        archived AS (INSERT INTO comments_archive (%1$s) SELECT %1$s FROM purged)
+                        """.formatted(commentColumns), null, CommentEntity.class),
+                new Step("deleted-user-tasks", """
+                        WITH scanned AS (SELECT id, created_at FROM tasks WHERE id > ? ORDER BY id LIMIT ?),
+                        purged AS (
+                            UPDATE tasks t SET is_deleted = true
+                            FROM scanned s, users u
+                            WHERE t.id = s.id AND t.created_at = s.created_at AND t.is_deleted IS NOT TRUE
+                                AND u.id = t.author_id AND u.is_deleted AND u.updated_at < ?
+                            RETURNING t.id
+                        )
+                        """, deletedUserCutoff, TaskEntity.class),
+                new Step("deleted-user-comments", """
+                        WITH scanned AS (SELECT id, created_at FROM comments WHERE id > ? ORDER BY id LIMIT ?),
+                        purged AS (
+                            UPDATE comments c SET is_deleted = true
+                            FROM scanned s, users u
+                            WHERE c.id = s.id AND c.created_at = s.created_at AND c.is_deleted IS NOT TRUE
+                                AND u.id = c.author_id AND u.is_deleted AND u.updated_at < ?
+                            RETURNING c.id
+                        )
+                        """, deletedUserCutoff, CommentEntity.class),
+                new Step("tokens", """
+                        WITH scanned AS (SELECT id FROM token WHERE id > ? ORDER BY id LIMIT ?),
+                        purged AS (
+                            DELETE FROM token t USING scanned s
+                            WHERE t.id = s.id AND (t.expires_at < ?
+                                OR EXISTS (SELECT 1 FROM users u WHERE u.id = t.user_id AND u.is_deleted))
+                            RETURNING t.id
+                        )
+                        """, now.minus(tokenProperties.getRetention()), null)
+        );
+    }
+
+    private void run(Step step, long deadline) {
+        var rows = Counter.builder("purge.rows")
+                .description("Rows purged, archived or soft-deleted by the purge job")
+                .tag("step", step.name())
+                .register(meterRegistry);
+        var chunkTimer = Timer.builder("purge.chunk")
+                .description("Time per purge chunk")
+                .tag("step", step.name())
+                .register(meterRegistry);
+        long cursor = cursors.getOrDefault(step.name(), 0L);
+        long scanned = 0;
+        long purged = 0;
+        while (System.nanoTime() < deadline) {
+            long from = cursor;
+            Chunk chunk;
+            try {
+                chunk = chunkTimer.record(() -> runChunk(step, from));
+            } catch (TransientDataAccessException e) {
+                log.warn("Purge step {} timed out at id {}, continuing next run", step.name(), cursor, e);
+                break;
+            }
+            if (chunk.lastId() == null) {
+                cursor = 0;
+                break;
+            }
+            cursor = chunk.lastId();
+            scanned += properties.getChunkSize();
+            if (chunk.purged() > 0) {
+                purged += chunk.purged();
+                rows.increment(chunk.purged());
+                evict(step.cached());
+            }
+            log.debug("Purge step {}: {} rows in chunk up to id {}", step.name(), chunk.purged(), cursor);
+            if (!pause()) {
+                break;
+            }
+        }
+        cursors.put(step.name(), cursor);
+        if (purged > 0) {
+            log.info("Purge step {} processed {} rows after scanning up to {} rows, cursor at id {}",
+                    step.name(), purged, scanned, cursor);
+        }
+    }
+
+    private Chunk runChunk(Step step, long cursor) {
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL statement_timeout = " + properties.getChunkTimeout().toMillis());
+            jdbcTemplate.execute("SET LOCAL lock_timeout = " + properties.getChunkTimeout().toMillis());
+            var arguments = step.cutoff() == null
+                    ? new Object[]{cursor, properties.getChunkSize()}
+                    : new Object[]{cursor, properties.getChunkSize(), step.cutoff()};
+            return jdbcTemplate.queryForObject(step.sql() + RESULT,
+                    (rs, i) -> new Chunk(rs.getObject(1, Long.class), rs.getLong(2)), arguments);
+        });
+    }
+
+    private static boolean advisoryLock(Connection connection, String function) throws SQLException {
+        try (var statement = connection.createStatement();
+             var resultSet = statement.executeQuery("SELECT " + function + "(" + LOCK_KEY + ")")) {
+            return resultSet.next() && resultSet.getBoolean(1);
+        }
+    }
+
+    private void evict(Class<?> entity) {
+        if (entity == null) {
+            return;
+        }
+        entityManagerFactory.getCache().evict(entity);
+        var cacheName = entity == TaskEntity.class ? "tasks" : "comments";
+        Optional.ofNullable(cacheManager.getCache(cacheName)).ifPresent(Cache::clear);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * A purge step. The SQL defines the CTEs {@code scanned}, taking the cursor and chunk size,
+     * and {@code purged}, taking the cutoff if there is one.
+     *
+     * @param cached the entity whose caches are evicted when rows change, or {@code null}
+     */
+    private record Step(String name, String sql, LocalDateTime cutoff, Class<?> cached) {
+    }
+
+    private record Chunk(Long lastId, long purged) {
+    }
+}
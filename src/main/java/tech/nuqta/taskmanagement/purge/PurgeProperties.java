@@ -0,0 +1,35 @@
+package tech.nuqta.taskmanagement.purge;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link PurgeJob}. Every chunk scans {@code chunk-size} rows of one table
+ * and is cancelled by the database after {@code chunk-timeout}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.purge")
+public class PurgeProperties {
+
+    private boolean enabled = true;
+    private Duration interval = Duration.ofHours(1);
+    private int chunkSize = 1000;
+    private Duration chunkTimeout = Duration.ofSeconds(5);
+    private Duration pause = Duration.ofMillis(200);
+    /**
+     * Longest time a single run keeps purging; the next run continues where it stopped.
+     */
+    private Duration maxRunTime = Duration.ofMinutes(10);
+    /**
+     * How long archived tasks and comments are kept before they are deleted for good.
+     */
+    private Duration archiveRetention = Duration.ofDays(365);
+    /**
+     * How long after a user is deleted their tasks and comments are deleted as well.
+     */
+    private Duration deletedUserRetention = Duration.ofDays(30);
+}
@@ -0,0 +1,109 @@
+package tech.nuqta.taskmanagement.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The AuthRateLimiter class keeps one token bucket per client IP and per account email for each
+ * rate-limited authentication endpoint. Buckets live in a bounded map and are dropped after a period of inactivity.
+ */
+@Component
+public class AuthRateLimiter {
+    private static final String IP = "ip";
+    private static final String ACCOUNT = "account";
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Ticker ticker;
+    private final Cache<String, TokenBucket> buckets;
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AuthRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    AuthRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, Ticker ticker) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.ticker = ticker;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedKeys())
+                .expireAfterAccess(properties.getIdleExpiry())
+                .ticker(ticker)
+                .build();
+        Gauge.builder("auth.rate-limit.tracked-keys", buckets, Cache::estimatedSize)
+                .description("Number of token buckets currently held by the authentication rate limiter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checks whether the given endpoint is rate limited at all.
+     *
+     * @param endpoint the endpoint name, e.g. {@code authenticate}
+     * @return true if limits are configured for the endpoint
+     */
+    public boolean isLimited(String endpoint) {
+        return properties.isEnabled() && properties.getEndpoints().containsKey(endpoint);
+    }
+
+    /**
+     * Checks whether the given endpoint has a per-account limit, which requires the email from the request body.
+     *
+     * @param endpoint the endpoint name
+     * @return true if a per-account bucket is configured for the endpoint
+     */
+    public boolean hasAccountLimit(String endpoint) {
+        var limits = properties.getEndpoints().get(endpoint);
+        return limits != null && limits.getPerAccount() != null;
+    }
+
+    /**
+     * Takes one token from the IP bucket and, if an email is given, from the account bucket of the endpoint.
+     *
+     * @param endpoint the endpoint name
+     * @param ip       the client IP address
+     * @param email    the account email, may be null
+     * @return 0 if the request may proceed, otherwise the nanoseconds the client should wait before retrying
+     */
+    public long tryAcquire(String endpoint, String ip, String email) {
+        var limits = properties.getEndpoints().get(endpoint);
+        long now = ticker.read();
+
+        long wait = consume(endpoint, IP, ip, limits.getPerIp(), now);
+        if (wait == 0 && email != null) {
+            wait = consume(endpoint, ACCOUNT, email, limits.getPerAccount(), now);
+        }
+        return wait;
+    }
+
+    private long consume(String endpoint, String keyType, String key, RateLimitProperties.BucketSpec spec, long now) {
+        if (spec == null || key == null) {
+            return 0;
+        }
+        var bucket = buckets.get(endpoint + '|' + keyType + '|' + key,
+                k -> new TokenBucket(spec.getCapacity(), spec.getRefillPeriod(), now));
+        long wait = bucket.tryConsume(now);
+        counter(endpoint, keyType, wait == 0 ? "allowed" : "rejected").increment();
+        return wait;
+    }
+
+    private Counter counter(String endpoint, String keyType, String outcome) {
+        return counters.computeIfAbsent(endpoint + '|' + keyType + '|' + outcome,
+                k -> Counter.builder("auth.rate-limit.requests")
+                        .description("Authentication requests checked by the rate limiter")
+                        .tag("endpoint", endpoint)
+                        .tag("key", keyType)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+    }
+}
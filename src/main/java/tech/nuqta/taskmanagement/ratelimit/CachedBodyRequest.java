@@ -0,0 +1,78 @@
+package tech.nuqta.taskmanagement.ratelimit;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A request wrapper that reads the body eagerly so it can be inspected by a filter and replayed to the controller.
+ * At most one byte more than the limit is read, so an oversized body is detected without buffering it.
+ */
+class CachedBodyRequest extends HttpServletRequestWrapper {
+    private final byte[] body;
+    private final int maxBodySize;
+
+    CachedBodyRequest(HttpServletRequest request, int maxBodySize) throws IOException {
+        super(request);
+        this.maxBodySize = maxBodySize;
+        this.body = request.getInputStream().readNBytes(maxBodySize + 1);
+    }
+
+    byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Checks whether the body is larger than the limit, in which case {@link #getBody()} holds only its start.
+     */
+    boolean isTooLarge() {
+        return body.length > maxBodySize;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        var in = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return in.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read() {
+                return in.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return in.read(b, off, len);
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        Charset charset = getCharacterEncoding() != null
+                ? Charset.forName(getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+}
@@ -0,0 +1,26 @@
+package tech.nuqta.taskmanagement.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The RateLimitConfig class registers the {@link RateLimitFilter} ahead of the Spring Security filter chain.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(AuthRateLimiter rateLimiter, ObjectMapper objectMapper,
+                                                                   RateLimitProperties properties) {
+        var filter = new RateLimitFilter(rateLimiter, objectMapper, (int) properties.getMaxBodySize().toBytes());
+        var registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns(RateLimitFilter.AUTH_PATH_PREFIX + "*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+}
@@ -0,0 +1,121 @@
+package tech.nuqta.taskmanagement.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tech.nuqta.taskmanagement.handler.BusinessErrorCodes;
+import tech.nuqta.taskmanagement.handler.ExceptionResponse;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static tech.nuqta.taskmanagement.handler.BusinessErrorCodes.RATE_LIMIT_EXCEEDED;
+import static tech.nuqta.taskmanagement.handler.BusinessErrorCodes.REQUEST_BODY_TOO_LARGE;
+
+/**
+ * This filter applies the {@link AuthRateLimiter} to the unauthenticated endpoints of the AuthenticationController.
+ * Rejected requests get a 429 response with a {@code Retry-After} header before any password hashing,
+ * mail sending or token parsing happens. The body is read to find the account email only up to
+ * {@code max-body-size}; larger requests get a 413 response.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    static final String AUTH_PATH_PREFIX = "/api/v1/auth/";
+
+    private final AuthRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final int maxBodySize;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String endpoint = request.getServletPath().substring(AUTH_PATH_PREFIX.length());
+        if (!rateLimiter.isLimited(endpoint)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest effectiveRequest = request;
+        String email = null;
+        if (rateLimiter.hasAccountLimit(endpoint)) {
+            if (request.getContentLengthLong() > maxBodySize) {
+                writeBodyTooLarge(response);
+                return;
+            }
+            var cachedRequest = new CachedBodyRequest(request, maxBodySize);
+            if (cachedRequest.isTooLarge()) {
+                writeBodyTooLarge(response);
+                return;
+            }
+            email = extractEmail(cachedRequest.getBody());
+            effectiveRequest = cachedRequest;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(endpoint, request.getRemoteAddr(), email);
+        if (waitNanos > 0) {
+            writeTooManyRequests(response, waitNanos);
+            return;
+        }
+        filterChain.doFilter(effectiveRequest, response);
+    }
+
+    /**
+     * Only POST requests below {@code /api/v1/auth/} are rate limited.
+     *
+     * @param request the current request
+     * @return true if the request should bypass the rate limiter
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !request.getServletPath().startsWith(AUTH_PATH_PREFIX);
+    }
+
+    /**
+     * Extracts the {@code email} field from a JSON request body.
+     *
+     * @param body the raw request body
+     * @return the normalized email, or null if the body does not contain one
+     */
+    private String extractEmail(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            var email = objectMapper.readTree(body).path("email");
+            return email.isTextual() ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        writeError(response, RATE_LIMIT_EXCEEDED, "Too many requests. Retry after " + retryAfterSeconds + " seconds");
+    }
+
+    private void writeBodyTooLarge(HttpServletResponse response) throws IOException {
+        writeError(response, REQUEST_BODY_TOO_LARGE, "The request body exceeds " + maxBodySize + " bytes");
+    }
+
+    private void writeError(HttpServletResponse response, BusinessErrorCodes code, String error) throws IOException {
+        response.setStatus(code.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getWriter(), ExceptionResponse.builder()
+                .errorCode(code.getCode())
+                .errorDescription(code.getDescription())
+                .error(error)
+                .timestamp(System.currentTimeMillis())
+                .build());
+    }
+}
@@ -0,0 +1,46 @@
+package tech.nuqta.taskmanagement.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the authentication rate limiter.
+ * Endpoints are keyed by the last path segment under {@code /api/v1/auth}, e.g. {@code authenticate}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private long maxTrackedKeys = 100_000;
+    private Duration idleExpiry = Duration.ofMinutes(15);
+    /**
+     * The largest body read to find the account of a request; larger requests are rejected with 413.
+     */
+    private DataSize maxBodySize = DataSize.ofKilobytes(16);
+    private Map<String, EndpointLimits> endpoints = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class EndpointLimits {
+        private BucketSpec perIp;
+        private BucketSpec perAccount;
+    }
+
+    /**
+     * A bucket holding up to {@code capacity} tokens, fully refilled over {@code refillPeriod}.
+     */
+    @Getter
+    @Setter
+    public static class BucketSpec {
+        private long capacity;
+        private Duration refillPeriod;
+    }
+}
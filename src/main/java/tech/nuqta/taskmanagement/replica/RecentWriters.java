@@ -0,0 +1,49 @@
+package tech.nuqta.taskmanagement.replica;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+/**
+ * Remembers the users that committed a write within the read-your-writes window.
+ * Their read-only work is sent to the primary, since the replicas may not have their change yet.
+ * <p>
+ * The record is kept in memory on each instance. With several instances behind a load balancer, read-your-writes
+ * only holds if the balancer keeps a user on the instance they wrote through (sticky sessions on the
+ * {@code Authorization} header or a cookie); a read landing on another instance may be served by a replica.
+ */
+class RecentWriters {
+    private static final long MAX_TRACKED_USERS = 100_000;
+
+    private final Cache<String, Boolean> writers;
+
+    RecentWriters(Duration window) {
+        this.writers = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(MAX_TRACKED_USERS)
+                .build();
+    }
+
+    void recordWrite(String user) {
+        writers.put(user, Boolean.TRUE);
+    }
+
+    boolean wroteRecently(String user) {
+        return user != null && writers.getIfPresent(user) != null;
+    }
+
+    /**
+     * Returns the name of the authenticated user of the current thread, or {@code null} for anonymous work.
+     */
+    static String currentUser() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,75 @@
+package tech.nuqta.taskmanagement.replica;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * The ReplicaConfig class routes read-only transactions to the read replicas and everything else to the primary.
+ * The primary data source is wrapped in a {@link LazyConnectionDataSourceProxy}, which defers fetching a connection
+ * until the first statement; by then the transaction has marked the connection read-only, and such connections
+ * are taken from the {@link ReplicaRoutingDataSource}.
+ * <p>
+ * The wrapping runs after every other data source post-processor, so the SQL statistics and deadline proxies sit
+ * under the lazy proxy and see physical connections only. The replica pools are passed through the same
+ * post-processors, so statements on the replicas are counted and bounded by the deadline too.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(prefix = "application.replica", name = "enabled")
+public class ReplicaConfig {
+
+    @Bean
+    public RecentWriters recentWriters(ReplicaProperties properties) {
+        return new RecentWriters(properties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    public ReplicaPool replicaPool(ReplicaProperties properties, DataSourceProperties dataSourceProperties, MeterRegistry meterRegistry) {
+        return new ReplicaPool(properties, dataSourceProperties, meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor replicaRoutingPostProcessor(ConfigurableListableBeanFactory beanFactory,
+                                                                ObjectProvider<ReplicaPool> replicaPool,
+                                                                ObjectProvider<RecentWriters> recentWriters,
+                                                                ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ReplicaRoutingPostProcessor(beanFactory, replicaPool, recentWriters, meterRegistry);
+    }
+
+    private record ReplicaRoutingPostProcessor(ConfigurableListableBeanFactory beanFactory,
+                                               ObjectProvider<ReplicaPool> replicaPool,
+                                               ObjectProvider<RecentWriters> recentWriters,
+                                               ObjectProvider<MeterRegistry> meterRegistry)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            // the replica pools are not beans; they come through here when they are decorated below
+            if (!(bean instanceof DataSource primary) || !beanFactory.containsBeanDefinition(beanName)) {
+                return bean;
+            }
+            var pool = replicaPool.getObject();
+            pool.decorate(dataSource -> (DataSource) beanFactory.initializeBean(dataSource, beanName + "-replica"));
+            var writers = recentWriters.getObject();
+            var proxy = new LazyConnectionDataSourceProxy(new WriteTrackingDataSource(primary, writers));
+            proxy.setReadOnlyDataSource(new ReplicaRoutingDataSource(pool, primary, writers, meterRegistry.getObject()));
+            return proxy;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package tech.nuqta.taskmanagement.replica;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+/**
+ * Holds a connection pool per read replica and keeps track of which replicas are fit to serve reads.
+ * Replicas are checked periodically: a replica is taken out of rotation when it cannot be reached
+ * or lags too far behind the primary, and put back once it is reachable and caught up.
+ * A replica that is not receiving WAL from the primary counts as lagging however much it has replayed.
+ */
+@Slf4j
+class ReplicaPool implements InitializingBean, DisposableBean {
+    /**
+     * Replay lag in seconds; zero on a server that is not in recovery or has replayed everything it received,
+     * since the last replay timestamp only moves when the primary commits.
+     * {@code NULL} on a standby whose WAL receiver is not running: it has lost the primary, so having replayed
+     * everything it received says nothing about how far behind it is. The row of {@code pg_stat_wal_receiver}
+     * is visible to any role, only its details need {@code pg_read_all_stats}.
+     */
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver) THEN NULL
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END""";
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+
+    ReplicaPool(ReplicaProperties properties, DataSourceProperties primary, MeterRegistry meterRegistry) {
+        this.maxLagMillis = properties.getMaxLag().toMillis();
+        for (var node : properties.getNodes()) {
+            var name = node.getName() != null ? node.getName() : "replica-" + replicas.size();
+            var config = new HikariConfig();
+            config.setPoolName(name);
+            config.setJdbcUrl(node.getUrl());
+            config.setUsername(node.getUsername() != null ? node.getUsername() : primary.determineUsername());
+            config.setPassword(node.getPassword() != null ? node.getPassword() : primary.determinePassword());
+            config.setMaximumPoolSize(properties.getMaximumPoolSize());
+            config.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+            config.setReadOnly(true);
+            // start even if the replica is down; the health check keeps it out of rotation until it is reachable
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            var replica = new Replica(name, new HikariDataSource(config));
+            replicas.add(replica);
+
+            Gauge.builder("db.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("Whether the replica is serving reads")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+            Gauge.builder("db.replica.lag", replica, r -> r.lagMillis / 1000.0)
+                    .description("Replay lag of the replica behind the primary")
+                    .tag("replica", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        checkHealth();
+    }
+
+    /**
+     * Returns the healthy replicas, starting with a different one on every call so reads are spread evenly.
+     */
+    List<Replica> candidates() {
+        var healthy = replicas.stream().filter(replica -> replica.healthy).toList();
+        if (healthy.size() <= 1) {
+            return healthy;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), healthy.size());
+        var ordered = new ArrayList<Replica>(healthy.size());
+        ordered.addAll(healthy.subList(start, healthy.size()));
+        ordered.addAll(healthy.subList(0, start));
+        return ordered;
+    }
+
+    List<Replica> replicas() {
+        return replicas;
+    }
+
+    /**
+     * Wraps the data source that hands out connections for reads on each replica.
+     * The health checks keep using the pool directly.
+     */
+    void decorate(UnaryOperator<DataSource> decorator) {
+        replicas.forEach(replica -> replica.connections = decorator.apply(replica.dataSource));
+    }
+
+    @Scheduled(fixedDelayString = "${application.replica.health-check-interval:PT5S}")
+    public void checkHealth() {
+        for (var replica : replicas) {
+            try (var connection = replica.dataSource.getConnection();
+                 var statement = connection.createStatement()) {
+                statement.setQueryTimeout(1);
+                boolean streaming;
+                try (var resultSet = statement.executeQuery(LAG_QUERY)) {
+                    resultSet.next();
+                    double lagSeconds = resultSet.getDouble(1);
+                    streaming = !resultSet.wasNull();
+                    if (streaming) {
+                        replica.lagMillis = (long) (lagSeconds * 1000);
+                    }
+                }
+                boolean healthy = streaming && replica.lagMillis <= maxLagMillis;
+                if (healthy != replica.healthy) {
+                    if (streaming) {
+                        log.info("Replica {} is {} (lag {} ms)", replica.name, healthy ? "back in rotation" : "lagging", replica.lagMillis);
+                    } else {
+                        log.warn("Replica {} is not receiving WAL from the primary", replica.name);
+                    }
+                }
+                replica.healthy = healthy;
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+    }
+
+    void markDown(Replica replica, SQLException cause) {
+        if (replica.healthy) {
+            log.warn("Replica {} is unreachable, reads fall back to the other replicas or the primary", replica.name, cause);
+        }
+        replica.healthy = false;
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    static final class Replica {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile DataSource connections;
+        private volatile boolean healthy;
+        private volatile long lagMillis;
+
+        private Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.connections = dataSource;
+        }
+
+        String name() {
+            return name;
+        }
+
+        boolean isHealthy() {
+            return healthy;
+        }
+
+        Connection getConnection() throws SQLException {
+            return connections.getConnection();
+        }
+    }
+}
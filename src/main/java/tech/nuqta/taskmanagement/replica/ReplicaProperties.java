@@ -0,0 +1,38 @@
+package tech.nuqta.taskmanagement.replica;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the read replicas. Replicas without a username or password use the credentials of the primary.
+ * A replica lagging more than {@code maxLag} behind the primary is taken out of rotation until it catches up;
+ * {@code readYourWritesWindow} should be at least as long, so a user's reads stay on the primary
+ * until the replicas have seen their last write.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.replica")
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+    private List<Node> nodes = new ArrayList<>();
+    private int maximumPoolSize = 10;
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+    private Duration maxLag = Duration.ofSeconds(5);
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Node {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,66 @@
+package tech.nuqta.taskmanagement.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * The data source for read-only work. Connections come from a healthy replica, or from the primary
+ * if the current user wrote within the read-your-writes window or no replica can serve the read.
+ * A replica that fails to hand out a connection is taken out of rotation right away and the next one is tried.
+ */
+@Slf4j
+class ReplicaRoutingDataSource extends AbstractDataSource {
+    private final ReplicaPool replicas;
+    private final DataSource primary;
+    private final RecentWriters recentWriters;
+    private final Counter toReplica;
+    private final Counter readYourWrites;
+    private final Counter noHealthyReplica;
+
+    ReplicaRoutingDataSource(ReplicaPool replicas, DataSource primary, RecentWriters recentWriters, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.primary = primary;
+        this.recentWriters = recentWriters;
+        this.toReplica = routed(meterRegistry, "replica", "replica");
+        this.readYourWrites = routed(meterRegistry, "primary", "read-your-writes");
+        this.noHealthyReplica = routed(meterRegistry, "primary", "no-healthy-replica");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (recentWriters.wroteRecently(RecentWriters.currentUser())) {
+            readYourWrites.increment();
+            return primary.getConnection();
+        }
+        for (var replica : replicas.candidates()) {
+            try {
+                var connection = replica.getConnection();
+                toReplica.increment();
+                return connection;
+            } catch (SQLException e) {
+                replicas.markDown(replica, e);
+            }
+        }
+        noHealthyReplica.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    private static Counter routed(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("db.replica.routing")
+                .description("Read-only connections by the data source that served them")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,44 @@
+package tech.nuqta.taskmanagement.replica;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Wraps the primary so that a read-write transaction of an authenticated user marks them as a recent writer
+ * once it commits. The connection is fetched once per transaction, so the callback is registered once as well.
+ */
+class WriteTrackingDataSource extends DelegatingDataSource {
+    private final RecentWriters recentWriters;
+
+    WriteTrackingDataSource(DataSource primary, RecentWriters recentWriters) {
+        super(primary);
+        this.recentWriters = recentWriters;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        var connection = super.getConnection();
+        trackWrite();
+        return connection;
+    }
+
+    private void trackWrite() {
+        var user = RecentWriters.currentUser();
+        if (user == null
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.recordWrite(user);
+            }
+        });
+    }
+}
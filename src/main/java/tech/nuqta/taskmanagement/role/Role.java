@@ -1,47 +0,0 @@
-package tech.nuqta.taskmanagement.role;
-
-
-import com.fasterxml.jackson.annotation.JsonIgnore;
-import jakarta.persistence.*;
-import lombok.*;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.annotation.LastModifiedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
-import tech.nuqta.taskmanagement.enums.RoleName;
-import tech.nuqta.taskmanagement.user.entity.User;
-
-import java.time.LocalDateTime;
-import java.util.List;
-
-
-/**
- * The Role class represents a role in the application.
- *
- * It is an entity class mapped to the "role" table in the database.
- * It also defines a relationship with the User class to represent the users associated with the role.
- */
-@Getter
-@Setter
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-@Entity
-@Table(name = "role")
-@EntityListeners(AuditingEntityListener.class)
-public class Role {
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-    @Column(unique = true)
-    @Enumerated(EnumType.STRING)
-    private RoleName name;
-    @ManyToMany(mappedBy = "roles", fetch = FetchType.LAZY)
-    @JsonIgnore
-    private List<User> user;
-    @CreatedDate
-    @Column(nullable = false, updatable = false)
-    private LocalDateTime createdDate;
-    @LastModifiedDate
-    @Column(insertable = false)
-    private LocalDateTime lastModifiedDate;
-}
\ No newline at end of file
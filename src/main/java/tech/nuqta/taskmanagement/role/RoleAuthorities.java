@@ -0,0 +1,37 @@
+package tech.nuqta.taskmanagement.role;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import tech.nuqta.taskmanagement.enums.RoleName;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Maps role masks to granted authorities. The authority list of every possible mask is built once
+ * and is immutable, so authorization checks share it instead of building a new list per call.
+ */
+public final class RoleAuthorities {
+    private static final int ALL = Arrays.stream(RoleName.values()).mapToInt(RoleName::getMask).reduce(0, (a, b) -> a | b);
+    private static final List<List<GrantedAuthority>> BY_MASK = IntStream.rangeClosed(0, ALL)
+            .mapToObj(RoleAuthorities::build)
+            .toList();
+
+    private RoleAuthorities() {
+    }
+
+    /**
+     * Returns the authorities of the given mask; bits of unknown roles are ignored.
+     */
+    public static List<GrantedAuthority> of(int roleMask) {
+        return BY_MASK.get(roleMask & ALL);
+    }
+
+    private static List<GrantedAuthority> build(int roleMask) {
+        return Arrays.stream(RoleName.values())
+                .filter(role -> role.in(roleMask))
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(role.name()))
+                .toList();
+    }
+}
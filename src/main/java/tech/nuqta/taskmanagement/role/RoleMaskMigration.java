@@ -0,0 +1,51 @@
+package tech.nuqta.taskmanagement.role;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import tech.nuqta.taskmanagement.enums.RoleName;
+import tech.nuqta.taskmanagement.migration.SchemaMigration;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Moves role membership from the old {@code users_roles} join table into {@code users.role_mask}
+ * and drops the join table and the {@code role} table. Users that already have a mask keep it.
+ * The migration runs in a single statement, so a failure leaves the old tables in place for the next start.
+ * On an upgraded database the first run finds no {@code role_mask} column yet and leaves the work to the run
+ * after the schema update has added it, which still comes before the first request.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoleMaskMigration implements SchemaMigration {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void migrate() {
+        var bits = Arrays.stream(RoleName.values())
+                .map(role -> "WHEN '" + role.name() + "' THEN " + role.getMask())
+                .collect(Collectors.joining(" "));
+        jdbcTemplate.execute("""
+                DO $$
+                BEGIN
+                    IF to_regclass('users_roles') IS NOT NULL AND EXISTS (
+                            SELECT 1 FROM information_schema.columns
+                            WHERE table_schema = current_schema() AND table_name = 'users'
+                                AND column_name = 'role_mask') THEN
+                        UPDATE users u
+                        SET role_mask = m.role_mask
+                        FROM (
+                            SELECT ur.user_id, bit_or(CASE r.name %s ELSE 0 END) AS role_mask
+                            FROM users_roles ur
+                            JOIN role r ON r.id = ur.roles_id
+                            GROUP BY ur.user_id
+                        ) m
+                        WHERE u.id = m.user_id AND u.role_mask = 0;
+                        DROP TABLE users_roles;
+                        DROP TABLE IF EXISTS role;
+                    END IF;
+                END $$
+                """.formatted(bits));
+    }
+}
@@ -111,7 +111,8 @@ public class JwtFilter extends OncePerRequestFilter {
         );
         AntPathMatcher pathMatcher = new AntPathMatcher();
 
-        return pathsToSkip.stream().anyMatch(path -> pathMatcher.match(path, request.getServletPath()));
+        return pathsToSkip.stream().anyMatch(path -> pathMatcher.match(path, request.getServletPath()))
+                || SecurityConfig.OPEN_ACTUATOR_ENDPOINTS.matches(request);
     }
     /**
      * Writes JSON response with the given status and error message to the HttpServletResponse object.
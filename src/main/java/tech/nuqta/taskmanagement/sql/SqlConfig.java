@@ -0,0 +1,65 @@
+package tech.nuqta.taskmanagement.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * The SqlConfig class wraps the application data source in a datasource-proxy that reports every statement
+ * to the {@link SqlStatementListener}, and registers the {@link SqlStatsFilter} around the Spring Security
+ * filter chain so queries issued during authentication are counted as well.
+ */
+@Configuration
+@EnableConfigurationProperties(SqlProperties.class)
+@ConditionalOnProperty(prefix = "application.sql", name = "enabled", matchIfMissing = true)
+public class SqlConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<SqlProperties> properties) {
+        return new DataSourceProxyPostProcessor(properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatsFilter> sqlStatsFilter(MeterRegistry meterRegistry, SqlProperties properties) {
+        var registration = new FilterRegistrationBean<>(new SqlStatsFilter(meterRegistry, properties.isServerTiming()));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 20);
+        return registration;
+    }
+
+    /**
+     * Wraps data sources ahead of the other post-processors, so the proxy sees physical connections
+     * rather than the lazy handles the replica routing hands out.
+     */
+    private record DataSourceProxyPostProcessor(ObjectProvider<SqlProperties> properties)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            var listener = new SqlStatementListener(properties.getObject());
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(listener)
+                    .methodListener(listener)
+                    .proxyResultSet()
+                    .build();
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE + 1;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package tech.nuqta.taskmanagement.sql;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of SQL statement accounting. {@code serverTiming} adds the per-request totals as a
+ * {@code Server-Timing} response header and is meant for non-production profiles only, as it buffers response bodies.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.sql")
+public class SqlProperties {
+
+    private boolean enabled = true;
+    private boolean serverTiming = false;
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+}
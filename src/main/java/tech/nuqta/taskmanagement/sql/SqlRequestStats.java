@@ -0,0 +1,83 @@
+package tech.nuqta.taskmanagement.sql;
+
+import java.util.Locale;
+
+/**
+ * Statement count, row count, JDBC time and connection hold time accumulated by the thread serving one HTTP request.
+ * Hold time counts the periods in which the request had at least one pooled connection checked out.
+ */
+final class SqlRequestStats {
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long rows;
+    private long jdbcNanos;
+    private long connections;
+    private int openConnections;
+    private long heldSince;
+    private long connectionNanos;
+
+    static SqlRequestStats begin() {
+        var stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    void addStatement(long elapsedNanos) {
+        statements++;
+        jdbcNanos += elapsedNanos;
+    }
+
+    void addRows(long count) {
+        rows += count;
+    }
+
+    void connectionAcquired(long nanoTime) {
+        connections++;
+        if (openConnections++ == 0) {
+            heldSince = nanoTime;
+        }
+    }
+
+    void connectionReleased(long nanoTime) {
+        if (openConnections > 0 && --openConnections == 0) {
+            connectionNanos += nanoTime - heldSince;
+        }
+    }
+
+    long statements() {
+        return statements;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    long jdbcNanos() {
+        return jdbcNanos;
+    }
+
+    long connections() {
+        return connections;
+    }
+
+    /**
+     * Returns the connection hold time, including a connection that is still checked out at the given time.
+     */
+    long connectionNanos(long nanoTime) {
+        return openConnections > 0 ? connectionNanos + nanoTime - heldSince : connectionNanos;
+    }
+
+    String toServerTiming(long nanoTime) {
+        return String.format(Locale.ROOT, "db;dur=%.3f;desc=\"%d statements, %d rows\", conn;dur=%.3f;desc=\"%d connections\"",
+                jdbcNanos / 1_000_000.0, statements, rows, connectionNanos(nanoTime) / 1_000_000.0, connections);
+    }
+}
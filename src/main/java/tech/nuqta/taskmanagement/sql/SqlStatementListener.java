@@ -0,0 +1,123 @@
+package tech.nuqta.taskmanagement.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Adds every executed statement, and the rows it read or wrote, to the {@link SqlRequestStats} of the current request,
+ * and logs statements slower than the configured threshold with their bind parameters and calling method.
+ * Connection checkouts and returns are tracked as well, to measure how long a request holds on to the pool.
+ */
+@Slf4j
+class SqlStatementListener implements QueryExecutionListener, MethodExecutionListener {
+    private static final String APP_PACKAGE = "tech.nuqta.taskmanagement.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final String STARTED_AT = SqlStatementListener.class.getName() + ".startedAt";
+
+    private final long slowQueryThresholdNanos;
+
+    SqlStatementListener(SqlProperties properties) {
+        this.slowQueryThresholdNanos = properties.getSlowQueryThreshold().toNanos();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // datasource-proxy measures elapsed time in whole milliseconds, which rounds most statements down to 0
+        execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedNanos = System.nanoTime() - execInfo.getCustomValue(STARTED_AT, Long.class);
+        var stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.addStatement(elapsedNanos);
+            stats.addRows(updateCount(execInfo.getResult()));
+        }
+        if (elapsedNanos >= slowQueryThresholdNanos) {
+            for (var queryInfo : queryInfoList) {
+                log.warn("Slow SQL ({} ms) from {}: {} {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                        callingMethod(), queryInfo.getQuery(), parameters(queryInfo));
+            }
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    /**
+     * Counts rows read through result sets, one per successful {@code next()}, and notes when a connection
+     * is taken from or returned to the pool.
+     */
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        var stats = SqlRequestStats.current();
+        if (stats == null || executionContext.getThrown() != null) {
+            return;
+        }
+        var target = executionContext.getTarget();
+        var methodName = executionContext.getMethod().getName();
+        if (target instanceof ResultSet) {
+            if ("next".equals(methodName) && Boolean.TRUE.equals(executionContext.getResult())) {
+                stats.addRows(1);
+            }
+        } else if (target instanceof DataSource) {
+            if ("getConnection".equals(methodName)) {
+                stats.connectionAcquired(System.nanoTime());
+            }
+        } else if (target instanceof Connection && "close".equals(methodName)) {
+            stats.connectionReleased(System.nanoTime());
+        }
+    }
+
+    private static long updateCount(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof int[] counts) {
+            long total = 0;
+            for (int count : counts) {
+                total += Math.max(count, 0);
+            }
+            return total;
+        }
+        return 0;
+    }
+
+    private static String parameters(QueryInfo queryInfo) {
+        return queryInfo.getParametersList().stream()
+                .map(operations -> operations.stream()
+                        .map(ParameterSetOperation::getArgs)
+                        .filter(args -> args.length > 1)
+                        .map(args -> String.valueOf(args[1]))
+                        .collect(Collectors.joining(", ", "[", "]")))
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * Finds the innermost application method on the stack outside this package, skipping CGLIB proxies.
+     */
+    private static String callingMethod() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APP_PACKAGE))
+                .filter(frame -> !frame.getClassName().startsWith(SqlStatementListener.class.getPackageName()))
+                .filter(frame -> !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName())
+                .orElse("unknown"));
+    }
+}
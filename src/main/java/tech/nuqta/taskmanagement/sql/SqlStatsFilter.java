@@ -0,0 +1,84 @@
+package tech.nuqta.taskmanagement.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This filter collects the SQL statements issued while serving a request and records them per endpoint
+ * as {@code sql.request.statements}, {@code sql.request.rows} and {@code sql.request.time}, together with
+ * {@code sql.request.connection-hold}, the time the request kept a pooled connection checked out.
+ * If enabled, the totals are also returned in a {@code Server-Timing} header; the body is buffered so the
+ * header can still be set after the controller has written it.
+ */
+@RequiredArgsConstructor
+public class SqlStatsFilter extends OncePerRequestFilter {
+    private static final String SERVER_TIMING = "Server-Timing";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean serverTiming;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        var stats = SqlRequestStats.begin();
+        var bufferedResponse = serverTiming ? new ContentCachingResponseWrapper(response) : null;
+        try {
+            filterChain.doFilter(request, bufferedResponse != null ? bufferedResponse : response);
+        } finally {
+            SqlRequestStats.end();
+            long now = System.nanoTime();
+            record(request, stats, now);
+            if (bufferedResponse != null) {
+                bufferedResponse.addHeader(SERVER_TIMING, stats.toServerTiming(now));
+                bufferedResponse.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlRequestStats stats, long now) {
+        var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        var uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        var method = request.getMethod();
+        DistributionSummary.builder("sql.request.statements")
+                .description("SQL statements executed per request")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.statements());
+        DistributionSummary.builder("sql.request.rows")
+                .description("Rows read or written per request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.rows());
+        Timer.builder("sql.request.time")
+                .description("JDBC time per request")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.jdbcNanos(), TimeUnit.NANOSECONDS);
+        if (stats.connections() > 0) {
+            Timer.builder("sql.request.connection-hold")
+                    .description("Time a request held a pooled connection")
+                    .tags("method", method, "uri", uri)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(stats.connectionNanos(now), TimeUnit.NANOSECONDS);
+        }
+    }
+}
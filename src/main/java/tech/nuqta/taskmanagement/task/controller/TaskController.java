@@ -20,6 +20,8 @@ import tech.nuqta.taskmanagement.task.dto.request.TaskCreateRequest;
 import tech.nuqta.taskmanagement.task.dto.request.TaskUpdateRequest;
 import tech.nuqta.taskmanagement.task.service.TaskService;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/tasks")
 @RequiredArgsConstructor
@@ -51,6 +53,18 @@ public class TaskController {
         return ResponseEntity.ok(taskService.getTask(id));
     }
 
+    @Operation(summary = "Get many tasks by ID", description = "Returns the tasks in the order of the requested IDs; "
+            + "IDs without a task are returned with found = false. At most 100 IDs per call.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully",
+                    content = { @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseMessage.class)) }),
+            @ApiResponse(responseCode = "400", description = "No IDs, too many IDs or an empty or invalid ID", content = @Content)
+    })
+    @GetMapping("/get-many")
+    public ResponseEntity<ResponseMessage> getTasksByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(taskService.getTasksByIds(ids));
+    }
+
     @Operation(summary = "Get tasks by priority")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully",
@@ -62,8 +76,9 @@ public class TaskController {
             @PathVariable TaskPriority priority,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean summary,
             Authentication authentication) {
-        return ResponseEntity.ok(taskService.getTasksByPriority(priority, page, size, authentication));
+        return ResponseEntity.ok(taskService.getTasksByPriority(priority, page, size, summary, authentication));
     }
 
     @Operation(summary = "Get tasks by status")
@@ -77,8 +92,9 @@ public class TaskController {
             @PathVariable TaskStatus status,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean summary,
             Authentication authentication) {
-        return ResponseEntity.ok(taskService.getTasksByStatus(status, page, size, authentication));
+        return ResponseEntity.ok(taskService.getTasksByStatus(status, page, size, summary, authentication));
     }
 
     @Operation(summary = "Get tasks by assignee")
@@ -92,8 +108,9 @@ public class TaskController {
             @PathVariable Long assigneeId,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean summary,
             Authentication authentication) {
-        return ResponseEntity.ok(taskService.getTasksByAssignee(assigneeId, page, size, authentication));
+        return ResponseEntity.ok(taskService.getTasksByAssignee(assigneeId, page, size, summary, authentication));
     }
 
     @Operation(summary = "Get tasks by author")
@@ -107,8 +124,9 @@ public class TaskController {
             @PathVariable Long authorId,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean summary,
             Authentication authentication) {
-        return ResponseEntity.ok(taskService.getTasksByAuthor(authorId, page, size, authentication));
+        return ResponseEntity.ok(taskService.getTasksByAuthor(authorId, page, size, summary, authentication));
     }
 
     @Operation(summary = "Get all tasks with pagination")
@@ -119,8 +137,9 @@ public class TaskController {
     @GetMapping("/get-all")
     public ResponseEntity<PageResponse<TaskDto>> getTasks(
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        return ResponseEntity.ok(taskService.getTasks(page, size));
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean summary) {
+        return ResponseEntity.ok(taskService.getTasks(page, size, summary));
     }
 
     @Operation(summary = "Update a task")
@@ -1,26 +1,39 @@
 package tech.nuqta.taskmanagement.task.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import tech.nuqta.taskmanagement.compression.CompressedText;
 import tech.nuqta.taskmanagement.enums.TaskPriority;
 import tech.nuqta.taskmanagement.enums.TaskStatus;
 import tech.nuqta.taskmanagement.task.entity.TaskEntity;
+import tech.nuqta.taskmanagement.id.JsonId;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
 
 /**
- * DTO for {@link TaskEntity}
+ * DTO for {@link TaskEntity}. Summaries leave out the description, which is then omitted from the JSON as well.
+ * The description stays in its stored, possibly compressed form until the DTO is serialized.
  */
 public record TaskDto(
-        Long id,
+        @JsonId Long id,
         LocalDateTime createdAt,
         LocalDateTime updatedAt,
-        Long createdBy,
-        Long modifiedBy,
+        @JsonId Long createdBy,
+        @JsonId Long modifiedBy,
         String title,
-        String description,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        CompressedText description,
         TaskStatus status,
         TaskPriority priority,
-        Long authorId,
-        Long assigneeId
+        @JsonId Long authorId,
+        @JsonId Long assigneeId
 ) implements Serializable {
-}
\ No newline at end of file
+
+    /**
+     * Creates a summary, used by the summary list queries.
+     */
+    public TaskDto(Long id, LocalDateTime createdAt, LocalDateTime updatedAt, Long createdBy, Long modifiedBy,
+                   String title, TaskStatus status, TaskPriority priority, Long authorId, Long assigneeId) {
+        this(id, createdAt, updatedAt, createdBy, modifiedBy, title, null, status, priority, authorId, assigneeId);
+    }
+}
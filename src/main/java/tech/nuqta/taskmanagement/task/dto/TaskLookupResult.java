@@ -0,0 +1,22 @@
+package tech.nuqta.taskmanagement.task.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import tech.nuqta.taskmanagement.id.JsonId;
+
+import java.io.Serializable;
+
+/**
+ * One entry of a multi-get response: the requested ID and the task, or {@code found = false}
+ * if there is no task with that ID or it was deleted.
+ */
+public record TaskLookupResult(
+        @JsonId Long id,
+        boolean found,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        TaskDto task
+) implements Serializable {
+
+    public static TaskLookupResult of(Long id, TaskDto task) {
+        return new TaskLookupResult(id, task != null, task);
+    }
+}
@@ -3,28 +3,36 @@ package tech.nuqta.taskmanagement.task.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import tech.nuqta.taskmanagement.cache.SecondLevelCacheConfig;
 import tech.nuqta.taskmanagement.common.BaseEntity;
+import tech.nuqta.taskmanagement.compression.CompressedText;
+import tech.nuqta.taskmanagement.compression.CompressedTextConverter;
 import tech.nuqta.taskmanagement.enums.TaskPriority;
 import tech.nuqta.taskmanagement.enums.TaskStatus;
 import tech.nuqta.taskmanagement.user.entity.User;
 
 @Getter
 @Setter
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.TASKS)
 @Entity
 @Table(name = "tasks")
 public class TaskEntity extends BaseEntity {
   private String title;
-  @Column(columnDefinition = "TEXT")
-  private String description;
+  @Basic(fetch = FetchType.LAZY)
+  @Convert(converter = CompressedTextConverter.class)
+  @Column(columnDefinition = "bytea")
+  private CompressedText description;
   @Enumerated(EnumType.STRING)
   private TaskStatus status;
   private TaskPriority priority;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "author_id")
   private User author;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "assignee_id")
   private User assignee;
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package tech.nuqta.taskmanagement.task.repository;
+
+import tech.nuqta.taskmanagement.task.entity.TaskEntity;
+
+import java.util.Optional;
+
+/**
+ * Finds a task by ID in the partitions its ID allows for, see {@link tech.nuqta.taskmanagement.partition.CreatedAtRange}.
+ */
+public interface TaskPartitionLookup {
+
+    Optional<TaskEntity> findPartitionedById(Long id);
+}
@@ -0,0 +1,18 @@
+package tech.nuqta.taskmanagement.task.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import tech.nuqta.taskmanagement.partition.CreatedAtRange;
+import tech.nuqta.taskmanagement.task.entity.TaskEntity;
+
+import java.util.Optional;
+
+class TaskPartitionLookupImpl implements TaskPartitionLookup {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<TaskEntity> findPartitionedById(Long id) {
+        return CreatedAtRange.find(entityManager, TaskEntity.class, id);
+    }
+}
@@ -1,37 +1,92 @@
 package tech.nuqta.taskmanagement.task.repository;
 
-import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 import tech.nuqta.taskmanagement.enums.TaskPriority;
 import tech.nuqta.taskmanagement.enums.TaskStatus;
+import tech.nuqta.taskmanagement.partition.CreatedAtRange;
+import tech.nuqta.taskmanagement.task.dto.TaskDto;
 import tech.nuqta.taskmanagement.task.entity.TaskEntity;
 import tech.nuqta.taskmanagement.user.entity.User;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
-    @Query("SELECT t FROM TaskEntity t WHERE t.id = :id AND t.isDeleted = false")
-    Optional<TaskEntity> findById(Long id);
-
-    @Transactional
-    @Query("SELECT t FROM TaskEntity t WHERE t.assignee = :assignee AND t.isDeleted = false")
-    Page<TaskEntity> findByAssigneeAndIsDeletedFalse(User assignee, Pageable pageable);
-    @Transactional
-    @Query("SELECT t FROM TaskEntity t WHERE t.author = :author AND t.isDeleted = false")
-    Page<TaskEntity> findByAuthorAndIsDeletedFalse(User author, Pageable pageable);
-
-    @Transactional
-    @Query("SELECT t FROM TaskEntity t WHERE t.isDeleted = false")
-    Page<TaskEntity> findByIsDeletedFalse(Pageable pageable);
-
-    @Transactional
-    @Query("SELECT t FROM TaskEntity t WHERE t.priority = :priority AND t.isDeleted = false")
-    Page<TaskEntity> findByPriorityAndIsDeletedFalse(TaskPriority priority, Pageable pageable);
-
-    @Transactional
-    @Query("SELECT t FROM TaskEntity t WHERE t.status = :status AND t.isDeleted = false")
-    Page<TaskEntity> findByStatusAndIsDeletedFalse(TaskStatus status, Pageable pageable);
-}
\ No newline at end of file
+/**
+ * Task lists are read as {@link TaskDto} projections, so only the selected columns leave the database
+ * and no entities are put in the persistence context. Summaries do not select the description.
+ * The table is partitioned by month of {@code created_at}; lookups by ID bound it by the range the IDs allow for.
+ */
+public interface TaskRepository extends JpaRepository<TaskEntity, Long>, TaskPartitionLookup {
+    String SELECT_TASK = """
+            SELECT new tech.nuqta.taskmanagement.task.dto.TaskDto(t.id, t.createdAt, t.updatedAt, t.createdBy, t.modifiedBy,
+                t.title, t.description, t.status, t.priority, t.author.id, t.assignee.id)
+            FROM TaskEntity t
+            """;
+    String SELECT_SUMMARY = """
+            SELECT new tech.nuqta.taskmanagement.task.dto.TaskDto(t.id, t.createdAt, t.updatedAt, t.createdBy, t.modifiedBy,
+                t.title, t.status, t.priority, t.author.id, t.assignee.id)
+            FROM TaskEntity t
+            """;
+
+    /**
+     * Finds a task that is not deleted. The lookup is served from the second-level cache when the task is there.
+     */
+    default Optional<TaskEntity> findActiveById(Long id) {
+        return findPartitionedById(id).filter(task -> Boolean.FALSE.equals(task.getIsDeleted()));
+    }
+
+    default List<TaskDto> findActiveByIdIn(Collection<Long> ids) {
+        return CreatedAtRange.of(ids)
+                .map(range -> findActiveByIdInCreatedBetween(ids, range.from(), range.to()))
+                .orElseGet(() -> findActiveByIdInAnyPartition(ids));
+    }
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_TASK + "WHERE t.id IN :ids AND t.createdAt BETWEEN :from AND :to AND t.isDeleted = false")
+    List<TaskDto> findActiveByIdInCreatedBetween(Collection<Long> ids, LocalDateTime from, LocalDateTime to);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_TASK + "WHERE t.id IN :ids AND t.isDeleted = false")
+    List<TaskDto> findActiveByIdInAnyPartition(Collection<Long> ids);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_TASK + "WHERE t.assignee = :assignee AND t.isDeleted = false")
+    Page<TaskDto> findByAssigneeAndIsDeletedFalse(User assignee, Pageable pageable);
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + "WHERE t.assignee = :assignee AND t.isDeleted = false")
+    Page<TaskDto> findSummariesByAssigneeAndIsDeletedFalse(User assignee, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_TASK + "WHERE t.author = :author AND t.isDeleted = false")
+    Page<TaskDto> findByAuthorAndIsDeletedFalse(User author, Pageable pageable);
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + "WHERE t.author = :author AND t.isDeleted = false")
+    Page<TaskDto> findSummariesByAuthorAndIsDeletedFalse(User author, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_TASK + "WHERE t.isDeleted = false")
+    Page<TaskDto> findByIsDeletedFalse(Pageable pageable);
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + "WHERE t.isDeleted = false")
+    Page<TaskDto> findSummariesByIsDeletedFalse(Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_TASK + "WHERE t.priority = :priority AND t.isDeleted = false")
+    Page<TaskDto> findByPriorityAndIsDeletedFalse(TaskPriority priority, Pageable pageable);
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + "WHERE t.priority = :priority AND t.isDeleted = false")
+    Page<TaskDto> findSummariesByPriorityAndIsDeletedFalse(TaskPriority priority, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_TASK + "WHERE t.status = :status AND t.isDeleted = false")
+    Page<TaskDto> findByStatusAndIsDeletedFalse(TaskStatus status, Pageable pageable);
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + "WHERE t.status = :status AND t.isDeleted = false")
+    Page<TaskDto> findSummariesByStatusAndIsDeletedFalse(TaskStatus status, Pageable pageable);
+}
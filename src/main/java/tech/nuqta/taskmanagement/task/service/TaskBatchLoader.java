@@ -0,0 +1,29 @@
+package tech.nuqta.taskmanagement.task.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import tech.nuqta.taskmanagement.bulkhead.BulkheadType;
+import tech.nuqta.taskmanagement.bulkhead.DbBulkhead;
+import tech.nuqta.taskmanagement.task.dto.TaskDto;
+import tech.nuqta.taskmanagement.task.repository.TaskRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Loads the tasks a multi-get did not find in the cache. It is a bean of its own so the read bulkhead and the
+ * read-only transaction cover only the query, and a multi-get answered from the cache takes neither a permit
+ * nor a connection.
+ */
+@Component
+@RequiredArgsConstructor
+class TaskBatchLoader {
+    private final TaskRepository taskRepository;
+
+    @Transactional(readOnly = true)
+    @DbBulkhead(BulkheadType.READ)
+    public List<TaskDto> findActive(Collection<Long> ids) {
+        return taskRepository.findActiveByIdIn(ids);
+    }
+}
@@ -9,6 +9,8 @@ import tech.nuqta.taskmanagement.task.dto.TaskDto;
 import tech.nuqta.taskmanagement.task.dto.request.TaskCreateRequest;
 import tech.nuqta.taskmanagement.task.dto.request.TaskUpdateRequest;
 
+import java.util.List;
+
 public interface TaskService {
     ResponseMessage addTask(TaskCreateRequest request, Authentication connectedUser);
 
@@ -18,13 +20,15 @@ public interface TaskService {
 
     ResponseMessage getTask(Long id);
 
-    PageResponse<TaskDto> getTasksByPriority(TaskPriority priority, int page, int size, Authentication connectedUser);
+    ResponseMessage getTasksByIds(List<Long> ids);
+
+    PageResponse<TaskDto> getTasksByPriority(TaskPriority priority, int page, int size, boolean summary, Authentication connectedUser);
 
-    PageResponse<TaskDto> getTasksByStatus(TaskStatus status, int page, int size, Authentication connectedUser);
+    PageResponse<TaskDto> getTasksByStatus(TaskStatus status, int page, int size, boolean summary, Authentication connectedUser);
 
-    PageResponse<TaskDto> getTasksByAssignee(Long assigneeId, int page, int size, Authentication connectedUser);
+    PageResponse<TaskDto> getTasksByAssignee(Long assigneeId, int page, int size, boolean summary, Authentication connectedUser);
 
-    PageResponse<TaskDto> getTasksByAuthor(Long authorId, int page, int size, Authentication connectedUser);
+    PageResponse<TaskDto> getTasksByAuthor(Long authorId, int page, int size, boolean summary, Authentication connectedUser);
 
-    PageResponse<TaskDto> getTasks(int page, int size);
+    PageResponse<TaskDto> getTasks(int page, int size, boolean summary);
 }
@@ -1,7 +1,9 @@
 package tech.nuqta.taskmanagement.task.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
@@ -9,20 +11,32 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.nuqta.taskmanagement.bulkhead.BulkheadType;
+import tech.nuqta.taskmanagement.bulkhead.DbBulkhead;
+import tech.nuqta.taskmanagement.cache.BulkCache;
 import tech.nuqta.taskmanagement.common.PageResponse;
 import tech.nuqta.taskmanagement.common.ResponseMessage;
 import tech.nuqta.taskmanagement.enums.TaskPriority;
 import tech.nuqta.taskmanagement.enums.TaskStatus;
+import tech.nuqta.taskmanagement.exception.AppBadRequestException;
 import tech.nuqta.taskmanagement.exception.ItemNotFoundException;
 import tech.nuqta.taskmanagement.exception.OperationNotPermittedException;
 import tech.nuqta.taskmanagement.mapper.TaskMapper;
 import tech.nuqta.taskmanagement.task.dto.TaskDto;
+import tech.nuqta.taskmanagement.task.dto.TaskLookupResult;
 import tech.nuqta.taskmanagement.task.dto.request.TaskCreateRequest;
 import tech.nuqta.taskmanagement.task.dto.request.TaskUpdateRequest;
 import tech.nuqta.taskmanagement.task.repository.TaskRepository;
 import tech.nuqta.taskmanagement.user.entity.User;
 import tech.nuqta.taskmanagement.user.repository.UserRepository;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 
 /**
  * This class is an implementation of the TaskService interface.
@@ -34,10 +48,17 @@ import tech.nuqta.taskmanagement.user.repository.UserRepository;
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = "service.method", histogram = true)
 @Slf4j
 public class TaskServiceImpl implements TaskService {
+    static final int MAX_MULTI_GET_IDS = 100;
+    private static final String TASKS_CACHE = "tasks";
+    private static final String TASK_RETRIEVED = "Task retrieved successfully";
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+    private final TaskBatchLoader taskBatchLoader;
 
     /**
      * Adds a new task to the system.
@@ -50,6 +71,8 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     @CacheEvict(value = "tasks", allEntries = true)
+    @Transactional
+    @DbBulkhead(BulkheadType.WRITE)
     public ResponseMessage addTask(TaskCreateRequest request, Authentication connectedUser) {
         var assignee = userRepository.findById(request.getAssigneeId()).orElseThrow(
                 () -> new ItemNotFoundException("Assignee not found"));
@@ -80,8 +103,10 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     @CacheEvict(value = "tasks", allEntries = true)
+    @Transactional
+    @DbBulkhead(BulkheadType.WRITE)
     public ResponseMessage updateTask(TaskUpdateRequest request, Authentication connectedUser) {
-        var task = taskRepository.findById(request.getId()).orElseThrow(
+        var task = taskRepository.findActiveById(request.getId()).orElseThrow(
                 () -> new ItemNotFoundException("Task not found"));
         var user = (User) connectedUser.getPrincipal();
 
@@ -106,8 +131,10 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     @CacheEvict(value = "tasks", allEntries = true)
+    @Transactional
+    @DbBulkhead(BulkheadType.WRITE)
     public ResponseMessage deleteTask(Long id, Authentication connectedUser) {
-        var task = taskRepository.findById(id).orElseThrow(
+        var task = taskRepository.findActiveById(id).orElseThrow(
                 () -> new ItemNotFoundException("Task not found"));
         var user = (User) connectedUser.getPrincipal();
 
@@ -131,12 +158,52 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     @Cacheable("tasks")
+    @Transactional(readOnly = true)
+    @DbBulkhead(BulkheadType.READ)
     public ResponseMessage getTask(Long id) {
-        var task = taskRepository.findById(id).orElseThrow(
+        var task = taskRepository.findActiveById(id).orElseThrow(
                 () -> new ItemNotFoundException("Task not found"));
         var taskDto = TaskMapper.toDto(task);
         log.info("Task with id: {} retrieved", task.getId());
-        return new ResponseMessage(taskDto, "Task retrieved successfully");
+        return new ResponseMessage(taskDto, TASK_RETRIEVED);
+    }
+
+    /**
+     * Retrieves many tasks by their IDs in one call.
+     * Tasks are looked up in the {@code tasks} cache under the same keys as {@link #getTask(Long)} uses,
+     * the misses are loaded with a single query and put back into the cache together. Only that query takes
+     * a read bulkhead permit and a connection.
+     *
+     * @param ids the IDs of the tasks to retrieve, at most {@value #MAX_MULTI_GET_IDS}; duplicates are allowed
+     * @return a ResponseMessage containing one {@link TaskLookupResult} per requested ID, in the order of the request
+     * @throws AppBadRequestException if no IDs or more than {@value #MAX_MULTI_GET_IDS} IDs are given,
+     *                                or one of them is empty, as in {@code ?ids=1,,2}
+     */
+    @Override
+    public ResponseMessage getTasksByIds(List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_MULTI_GET_IDS)
+            throw new AppBadRequestException("Between 1 and " + MAX_MULTI_GET_IDS + " task IDs can be requested at once");
+        if (ids.stream().anyMatch(Objects::isNull))
+            throw new AppBadRequestException("Task IDs must not be empty");
+
+        var unique = new LinkedHashSet<>(ids);
+        var cache = BulkCache.of(cacheManager.getCache(TASKS_CACHE));
+        Map<Long, TaskDto> tasks = new HashMap<>(unique.size());
+        cache.getAllPresent(unique).forEach((id, cached) -> tasks.put((Long) id, (TaskDto) ((ResponseMessage) cached).getData()));
+
+        var misses = unique.stream().filter(id -> !tasks.containsKey(id)).toList();
+        if (!misses.isEmpty()) {
+            Map<Long, ResponseMessage> loaded = new HashMap<>(misses.size());
+            for (var task : taskBatchLoader.findActive(misses)) {
+                tasks.put(task.id(), task);
+                loaded.put(task.id(), new ResponseMessage(task, TASK_RETRIEVED));
+            }
+            cache.putAll(loaded);
+        }
+        log.info("Retrieved {} of {} requested tasks, {} from the cache",
+                tasks.size(), unique.size(), unique.size() - misses.size());
+        var results = ids.stream().map(id -> TaskLookupResult.of(id, tasks.get(id))).toList();
+        return new ResponseMessage(results, "Tasks retrieved successfully");
     }
 
     /**
@@ -145,18 +212,23 @@ public class TaskServiceImpl implements TaskService {
      * @param priority       the priority of the tasks to retrieve
      * @param page           the page number of the results to retrieve
      * @param size           the maximum number of results per page
+     * @param summary        whether to leave out the description of the tasks
      * @param connectedUser  the authenticated user making the request
      * @return a PageResponse containing the tasks with the specified priority, including pagination information
      */
     @Override
     @Cacheable("tasks")
-    public PageResponse<TaskDto> getTasksByPriority(TaskPriority priority, int page, int size, Authentication connectedUser) {
+    @Transactional(readOnly = true)
+    @DbBulkhead(BulkheadType.READ)
+    public PageResponse<TaskDto> getTasksByPriority(TaskPriority priority, int page, int size, boolean summary, Authentication connectedUser) {
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by("createdAt").descending());
         var user = (User) connectedUser.getPrincipal();
-        var tasks = taskRepository.findByPriorityAndIsDeletedFalse(priority, pageable);
+        var tasks = summary
+                ? taskRepository.findSummariesByPriorityAndIsDeletedFalse(priority, pageable)
+                : taskRepository.findByPriorityAndIsDeletedFalse(priority, pageable);
         log.info("All tasks for priority: {} retrieved", priority);
         return new PageResponse<>(
-                TaskMapper.toDtoList(tasks.getContent()),
+                tasks.getContent(),
                 tasks.getNumber() + 1,
                 tasks.getSize(),
                 tasks.getTotalElements(),
@@ -172,18 +244,23 @@ public class TaskServiceImpl implements TaskService {
      * @param status The status of the tasks to retrieve.
      * @param page The page number to retrieve.
      * @param size The number of tasks per page.
+     * @param summary Whether to leave out the description of the tasks.
      * @param connectedUser The authenticated user making the request.
      * @return A PageResponse object containing the retrieved tasks and pagination information.
      */
     @Override
     @Cacheable("tasks")
-    public PageResponse<TaskDto> getTasksByStatus(TaskStatus status, int page, int size, Authentication connectedUser) {
+    @Transactional(readOnly = true)
+    @DbBulkhead(BulkheadType.READ)
+    public PageResponse<TaskDto> getTasksByStatus(TaskStatus status, int page, int size, boolean summary, Authentication connectedUser) {
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by("createdAt").descending());
         var user = (User) connectedUser.getPrincipal();
-        var tasks = taskRepository.findByStatusAndIsDeletedFalse(status, pageable);
+        var tasks = summary
+                ? taskRepository.findSummariesByStatusAndIsDeletedFalse(status, pageable)
+                : taskRepository.findByStatusAndIsDeletedFalse(status, pageable);
         log.info("All tasks for status: {} retrieved", status);
         return new PageResponse<>(
-                TaskMapper.toDtoList(tasks.getContent()),
+                tasks.getContent(),
                 tasks.getNumber() + 1,
                 tasks.getSize(),
                 tasks.getTotalElements(),
@@ -199,6 +276,7 @@ public class TaskServiceImpl implements TaskService {
      * @param assigneeId The ID of the assignee.
      * @param page The page number to retrieve (starting from 1).
      * @param size The number of tasks to retrieve per page.
+     * @param summary Whether to leave out the description of the tasks.
      * @param connectedUser The authenticated user performing the operation.
      * @return A PageResponse object containing a list of TaskDto objects, along with pagination information.
      * @throws ItemNotFoundException If the assignee with the specified ID is not found.
@@ -206,17 +284,21 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     @Cacheable("tasks")
-    public PageResponse<TaskDto> getTasksByAssignee(Long assigneeId, int page, int size, Authentication connectedUser) {
+    @Transactional(readOnly = true)
+    @DbBulkhead(BulkheadType.READ)
+    public PageResponse<TaskDto> getTasksByAssignee(Long assigneeId, int page, int size, boolean summary, Authentication connectedUser) {
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by("createdAt").descending());
         var user = (User) connectedUser.getPrincipal();
         var assignee = userRepository.findById(assigneeId).orElseThrow(
                 () -> new ItemNotFoundException("Assignee not found"));
         if (!user.getId().equals(assigneeId))
             throw new OperationNotPermittedException("You are not authorized to view tasks for another user");
-        var tasks = taskRepository.findByAssigneeAndIsDeletedFalse(assignee, pageable);
+        var tasks = summary
+                ? taskRepository.findSummariesByAssigneeAndIsDeletedFalse(assignee, pageable)
+                : taskRepository.findByAssigneeAndIsDeletedFalse(assignee, pageable);
         log.info("All tasks for assignee with id: {} retrieved", assigneeId);
         return new PageResponse<>(
-                TaskMapper.toDtoList(tasks.getContent()),
+                tasks.getContent(),
                 tasks.getNumber() + 1,
                 tasks.getSize(),
                 tasks.getTotalElements(),
@@ -232,6 +314,7 @@ public class TaskServiceImpl implements TaskService {
      * @param authorId         the ID of the author whose tasks are to be retrieved
      * @param page             the page number of the results to be retrieved
      * @param size             the number of tasks per page
+     * @param summary          whether to leave out the description of the tasks
      * @param connectedUser    the authentication details of the currently connected user
      * @return a {@link PageResponse} object containing the list of tasks, as well as pagination details
      *
@@ -240,17 +323,21 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     @Cacheable("tasks")
-    public PageResponse<TaskDto> getTasksByAuthor(Long authorId, int page, int size, Authentication connectedUser) {
+    @Transactional(readOnly = true)
+    @DbBulkhead(BulkheadType.READ)
+    public PageResponse<TaskDto> getTasksByAuthor(Long authorId, int page, int size, boolean summary, Authentication connectedUser) {
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by("createdAt").descending());
         var user = (User) connectedUser.getPrincipal();
         var author = userRepository.findById(authorId).orElseThrow(
                 () -> new ItemNotFoundException("Author not found"));
         if (!user.getId().equals(authorId))
             throw new OperationNotPermittedException("You are not authorized to view tasks for another user");
-        var tasks = taskRepository.findByAuthorAndIsDeletedFalse(author, pageable);
+        var tasks = summary
+                ? taskRepository.findSummariesByAuthorAndIsDeletedFalse(author, pageable)
+                : taskRepository.findByAuthorAndIsDeletedFalse(author, pageable);
         log.info("All tasks for author with id: {} retrieved", authorId);
         return new PageResponse<>(
-                TaskMapper.toDtoList(tasks.getContent()),
+                tasks.getContent(),
                 tasks.getNumber() + 1,
                 tasks.getSize(),
                 tasks.getTotalElements(),
@@ -265,17 +352,22 @@ public class TaskServiceImpl implements TaskService {
      *
      * @param page The page number (1-based) to retrieve.
      * @param size The number of tasks to retrieve per page.
+     * @param summary Whether to leave out the description of the tasks.
      * @return A PageResponse object containing the list of TaskDto objects for the requested page,
      *         as well as additional information about the page such as total elements and total pages.
      */
     @Override
     @Cacheable("tasks")
-    public PageResponse<TaskDto> getTasks(int page, int size) {
+    @Transactional(readOnly = true)
+    @DbBulkhead(BulkheadType.READ)
+    public PageResponse<TaskDto> getTasks(int page, int size, boolean summary) {
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by("createdAt").descending());
-        var tasks = taskRepository.findByIsDeletedFalse(pageable);
+        var tasks = summary
+                ? taskRepository.findSummariesByIsDeletedFalse(pageable)
+                : taskRepository.findByIsDeletedFalse(pageable);
         log.info("All tasks retrieved with page number: {} and size: {}", page, size);
         return new PageResponse<>(
-                TaskMapper.toDtoList(tasks.getContent()),
+                tasks.getContent(),
                 tasks.getNumber() + 1,
                 tasks.getSize(),
                 tasks.getTotalElements(),
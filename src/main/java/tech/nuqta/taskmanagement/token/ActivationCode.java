@@ -0,0 +1,18 @@
+package tech.nuqta.taskmanagement.token;
+
+import java.time.LocalDateTime;
+
+/**
+ * A live activation code and the user it activates.
+ *
+ * @param code      the code sent to the user
+ * @param userId    the id of the user to activate
+ * @param createdAt when the code was issued
+ * @param expiresAt when the code stops being accepted
+ */
+public record ActivationCode(String code, Long userId, LocalDateTime createdAt, LocalDateTime expiresAt) {
+
+    public boolean isExpired(LocalDateTime now) {
+        return now.isAfter(expiresAt);
+    }
+}
@@ -0,0 +1,68 @@
+package tech.nuqta.taskmanagement.token;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * An in-memory store of live activation codes. Codes are indexed by value for lookup and grouped into
+ * one-minute buckets by expiry, so eviction drops whole buckets instead of scanning every code.
+ * The store only knows the codes of its own instance and is not used to decide whether a value is free.
+ */
+class ActivationCodeStore {
+    private final Map<String, ActivationCode> codes = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<LocalDateTime, Set<String>> buckets = new ConcurrentSkipListMap<>();
+
+    /**
+     * Adds a code, replacing an entry with the same value, which can only be left over from a code
+     * that was used through another instance.
+     *
+     * @param code the code to add
+     */
+    void put(ActivationCode code) {
+        codes.put(code.code(), code);
+        buckets.computeIfAbsent(bucketOf(code.expiresAt()), k -> ConcurrentHashMap.newKeySet()).add(code.code());
+    }
+
+    Optional<ActivationCode> find(String code) {
+        return Optional.ofNullable(codes.get(code));
+    }
+
+    void remove(ActivationCode code) {
+        codes.remove(code.code(), code);
+    }
+
+    /**
+     * Drops every bucket that lies entirely before {@code now}.
+     *
+     * @param now the current time
+     * @return the number of codes evicted
+     */
+    int evictExpired(LocalDateTime now) {
+        var expired = buckets.headMap(bucketOf(now));
+        int evicted = 0;
+        for (var bucket : expired.values()) {
+            for (var value : bucket) {
+                // the value may have been re-issued into a later bucket since it was added here
+                if (codes.computeIfPresent(value, (k, code) -> code.isExpired(now) ? null : code) == null) {
+                    evicted++;
+                }
+            }
+        }
+        expired.clear();
+        return evicted;
+    }
+
+    int size() {
+        return codes.size();
+    }
+
+    private static LocalDateTime bucketOf(LocalDateTime time) {
+        return time.truncatedTo(ChronoUnit.MINUTES);
+    }
+}
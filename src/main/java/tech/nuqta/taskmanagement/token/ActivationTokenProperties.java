@@ -0,0 +1,21 @@
+package tech.nuqta.taskmanagement.token;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of activation codes. Expired {@link Token} rows are kept for {@code retention}
+ * so an expired code can still be recognised and re-sent, and are then deleted by the purge job.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.activation")
+public class ActivationTokenProperties {
+
+    private int codeLength = 6;
+    private Duration ttl = Duration.ofMinutes(5);
+    private Duration retention = Duration.ofDays(1);
+}
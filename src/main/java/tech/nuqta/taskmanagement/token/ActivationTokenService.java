@@ -0,0 +1,130 @@
+package tech.nuqta.taskmanagement.token;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tech.nuqta.taskmanagement.user.entity.User;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * The ActivationTokenService class issues and redeems account activation codes.
+ * A code is reserved by inserting its {@link Token} row: a unique index on the codes that have not been used yet
+ * makes the insert skip values that are taken on any instance, and another value is drawn instead.
+ * Codes issued by this instance are also held in memory, so redeeming them needs no lookup. The entry is only
+ * trusted if marking the row as used succeeds, because the code may have been used, and its value issued again,
+ * through another instance; otherwise the code is looked up in the database, as are codes the store does not know.
+ * Expired rows are deleted in chunks by the purge job.
+ */
+@Service
+@Slf4j
+public class ActivationTokenService {
+    private static final int MAX_GENERATION_ATTEMPTS = 32;
+    private static final String RESERVE_CODE = """
+            INSERT INTO token (id, token, created_at, expires_at, user_id)
+            VALUES (nextval('token_seq'), ?, ?, ?, ?)
+            ON CONFLICT (token) WHERE validated_at IS NULL DO NOTHING
+            """;
+
+    private final TokenRepository tokenRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ActivationTokenProperties properties;
+    private final ActivationCodeStore store = new ActivationCodeStore();
+    private final SecureRandom random = new SecureRandom();
+    private final int codeBound;
+
+    public ActivationTokenService(TokenRepository tokenRepository,
+                                  JdbcTemplate jdbcTemplate,
+                                  ActivationTokenProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.tokenRepository = tokenRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.codeBound = (int) Math.pow(10, properties.getCodeLength());
+        Gauge.builder("activation.codes.live", store, ActivationCodeStore::size)
+                .description("Activation codes held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Issues a new activation code for the given user and persists it in the current transaction.
+     * If the transaction rolls back the code is released again.
+     *
+     * @param user the user to activate
+     * @return the issued code
+     */
+    public ActivationCode issue(User user) {
+        // The user may only be pending in the persistence context, and the token row references it
+        tokenRepository.flush();
+        var code = reserveUniqueCode(user.getId(), LocalDateTime.now());
+        store.put(code);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        store.remove(code);
+                    }
+                }
+            });
+        }
+        return code;
+    }
+
+    /**
+     * Looks up a code that has not been used yet and, unless it has expired, marks it as used
+     * in the current transaction, so it can neither be redeemed nor activate the account again.
+     *
+     * @param value the code entered by the user
+     * @return the code, which may be expired, or empty if it is unknown or already used
+     */
+    public Optional<ActivationCode> redeem(String value) {
+        var now = LocalDateTime.now();
+        var cached = store.find(value).filter(code -> !code.isExpired(now));
+        if (cached.isPresent()) {
+            store.remove(cached.get());
+            if (tokenRepository.markValidated(value, cached.get().userId(), now) > 0) {
+                return cached;
+            }
+        }
+        var code = tokenRepository.findUnvalidated(value);
+        code.filter(c -> !c.isExpired(now))
+                .ifPresent(c -> tokenRepository.markValidated(value, c.userId(), now));
+        return code;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreLiveCodes() {
+        var live = tokenRepository.findLive(LocalDateTime.now());
+        live.forEach(store::put);
+        log.info("Restored {} live activation codes", live.size());
+    }
+
+    @Scheduled(fixedDelayString = "${application.activation.eviction-interval:PT1M}")
+    public void evictExpired() {
+        int evicted = store.evictExpired(LocalDateTime.now());
+        if (evicted > 0) {
+            log.debug("Evicted {} expired activation codes", evicted);
+        }
+    }
+
+    private ActivationCode reserveUniqueCode(Long userId, LocalDateTime now) {
+        var expiresAt = now.plus(properties.getTtl());
+        for (int attempt = 0; attempt < MAX_GENERATION_ATTEMPTS; attempt++) {
+            var value = String.format("%0" + properties.getCodeLength() + "d", random.nextInt(codeBound));
+            if (jdbcTemplate.update(RESERVE_CODE, value, now, expiresAt, userId) > 0) {
+                return new ActivationCode(value, userId, now, expiresAt);
+            }
+        }
+        throw new IllegalStateException("Could not generate a unique activation code; too many unused codes");
+    }
+}
@@ -13,11 +13,14 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_token_token", columnList = "token"),
+        @Index(name = "idx_token_expires_at", columnList = "expiresAt")
+})
 public class Token {
     @Id
     @GeneratedValue
     private Long id;
-    @Column(unique = true)
     private String token;
     private LocalDateTime createdAt;
     private LocalDateTime expiresAt;
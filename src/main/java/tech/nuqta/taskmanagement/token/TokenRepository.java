@@ -1,10 +1,37 @@
 package tech.nuqta.taskmanagement.token;
 
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface TokenRepository extends JpaRepository<Token, Long> {
 
-    Optional<Token> findByToken(String token);
+    /**
+     * Finds the code with the given value that has not been used yet; the unique index on unused codes
+     * created by {@link TokenSchemaMigration} allows at most one.
+     */
+    @Query("""
+            SELECT new tech.nuqta.taskmanagement.token.ActivationCode(t.token, t.user.id, t.createdAt, t.expiresAt)
+            FROM Token t
+            WHERE t.token = :token AND t.validatedAt IS NULL
+            """)
+    Optional<ActivationCode> findUnvalidated(@Param("token") String token);
+
+    @Query("""
+            SELECT new tech.nuqta.taskmanagement.token.ActivationCode(t.token, t.user.id, t.createdAt, t.expiresAt)
+            FROM Token t
+            WHERE t.expiresAt > :now AND t.validatedAt IS NULL
+            """)
+    List<ActivationCode> findLive(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Token t SET t.validatedAt = :validatedAt WHERE t.token = :token AND t.user.id = :userId AND t.validatedAt IS NULL")
+    int markValidated(@Param("token") String token, @Param("userId") Long userId, @Param("validatedAt") LocalDateTime validatedAt);
 }
@@ -0,0 +1,47 @@
+package tech.nuqta.taskmanagement.token;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import tech.nuqta.taskmanagement.migration.SchemaMigration;
+
+/**
+ * Replaces the unique constraint that older schemas have on {@code token.token} with a unique index on the codes
+ * that have not been used yet. A used code's value may be issued again, while the value of an unused one,
+ * even if expired, stays reserved until the row is purged, so a code always resolves to one user.
+ * Duplicate unused codes left by earlier versions are reduced to the latest one first.
+ * {@code ddl-auto: update} neither drops constraints nor creates partial indexes, hence this migration.
+ * On a new database the table appears with the schema update, so the index is created by the second run,
+ * before the first registration can rely on it.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenSchemaMigration implements SchemaMigration {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void migrate() {
+        jdbcTemplate.execute("""
+                DO $$
+                DECLARE c record;
+                BEGIN
+                    FOR c IN
+                        SELECT con.conname
+                        FROM pg_constraint con
+                        JOIN pg_class rel ON rel.oid = con.conrelid
+                        JOIN pg_attribute att ON att.attrelid = rel.oid AND att.attnum = ANY (con.conkey)
+                        WHERE rel.relname = 'token' AND con.contype = 'u' AND att.attname = 'token'
+                    LOOP
+                        EXECUTE format('ALTER TABLE token DROP CONSTRAINT %I', c.conname);
+                    END LOOP;
+                    IF to_regclass('token') IS NOT NULL THEN
+                        DELETE FROM token t
+                        WHERE t.validated_at IS NULL
+                            AND EXISTS (SELECT 1 FROM token n
+                                        WHERE n.token = t.token AND n.validated_at IS NULL AND n.id > t.id);
+                        CREATE UNIQUE INDEX IF NOT EXISTS token_unvalidated_uidx ON token (token) WHERE validated_at IS NULL;
+                    END IF;
+                END $$
+                """);
+    }
+}
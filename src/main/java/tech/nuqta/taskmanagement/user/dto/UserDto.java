@@ -2,6 +2,7 @@ package tech.nuqta.taskmanagement.user.dto;
 
 
 import tech.nuqta.taskmanagement.enums.Gender;
+import tech.nuqta.taskmanagement.id.JsonId;
 
 import java.io.Serializable;
 import java.time.LocalDate;
@@ -10,7 +11,7 @@ import java.util.List;
 
 
 public record UserDto(
-        Long id,
+        @JsonId Long id,
         String firstname,
         String lastname,
         String email,
@@ -20,5 +21,5 @@ public record UserDto(
         List<Object> authorities,
         LocalDateTime createdAt,
         LocalDateTime updatedAt,
-        Long modifiedBy) implements Serializable {
+        @JsonId Long modifiedBy) implements Serializable {
 }
\ No newline at end of file
@@ -6,21 +6,24 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import tech.nuqta.taskmanagement.cache.SecondLevelCacheConfig;
 import tech.nuqta.taskmanagement.enums.Gender;
-import tech.nuqta.taskmanagement.role.Role;
+import tech.nuqta.taskmanagement.enums.RoleName;
+import tech.nuqta.taskmanagement.id.TimeOrderedId;
+import tech.nuqta.taskmanagement.role.RoleAuthorities;
 
 import java.security.Principal;
 import java.time.LocalDateTime;
 import java.util.Collection;
-import java.util.List;
-import java.util.stream.Collectors;
 
 
 @Getter
@@ -28,12 +31,13 @@ import java.util.stream.Collectors;
 @SuperBuilder
 @NoArgsConstructor
 @AllArgsConstructor
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USERS)
 @Entity
 @Table(name = "users")
 @EntityListeners(AuditingEntityListener.class)
 public class User implements UserDetails, Principal {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
     private String firstname;
     private String lastname;
@@ -45,8 +49,12 @@ public class User implements UserDetails, Principal {
     private boolean isDeleted = false;
     private boolean accountLocked;
     private boolean enabled;
-    @ManyToMany(fetch = FetchType.EAGER)
-    private List<Role> roles;
+    /**
+     * The user's roles, one bit per {@link RoleName}.
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int roleMask;
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -59,10 +67,11 @@ public class User implements UserDetails, Principal {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return this.roles
-                .stream()
-                .map(r -> new SimpleGrantedAuthority(r.getName().toString()))
-                .collect(Collectors.toList());
+        return RoleAuthorities.of(roleMask);
+    }
+
+    public boolean hasRole(RoleName role) {
+        return role.in(roleMask);
     }
 
     @Override
@@ -1,5 +1,6 @@
 package tech.nuqta.taskmanagement.user.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -13,6 +14,9 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.nuqta.taskmanagement.bulkhead.BulkheadType;
+import tech.nuqta.taskmanagement.bulkhead.DbBulkhead;
 import tech.nuqta.taskmanagement.common.PageResponse;
 import tech.nuqta.taskmanagement.common.ResponseMessage;
 import tech.nuqta.taskmanagement.enums.RoleName;
@@ -33,6 +37,7 @@ import java.util.Optional;
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = "service.method", histogram = true)
 @Slf4j
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
@@ -42,11 +47,13 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @CacheEvict(value = "users", allEntries = true)
+    @Transactional
+    @DbBulkhead(BulkheadType.WRITE)
     public ResponseMessage updateUser(UserUpdateRequest request, Authentication connectedUser) {
         var user = ((User) connectedUser.getPrincipal());
         var userToUpdate = userRepository.findById(request.getId()).orElseThrow(() -> new AppBadRequestException("User not found"));
         if (!user.getId().equals(userToUpdate.getId()) &&
-                user.getRoles().stream().noneMatch(role -> role.getName().equals(RoleName.ADMIN))) {
+                !user.hasRole(RoleName.ADMIN)) {
             throw new OperationNotPermittedException("You are not authorized to update this user");
         }
         userToUpdate.setFirstname(request.getFirstname());
@@ -67,11 +74,13 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     @CacheEvict(value = "users", allEntries = true)
+    @Transactional
+    @DbBulkhead(BulkheadType.WRITE)
     public ResponseMessage deleteUser(Long id, Authentication connectedUser) {
         var user = ((User) connectedUser.getPrincipal());
         var foundUser = getById(id);
         if (!user.getId().equals(foundUser.getId()) &&
-                user.getRoles().stream().noneMatch(role -> role.getName().equals(RoleName.ADMIN))) {
+                !user.hasRole(RoleName.ADMIN)) {
             throw new OperationNotPermittedException("You are not authorized to delete this user");
         }
         foundUser.setDeleted(true);
@@ -91,11 +100,13 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     @Cacheable("users")
+    @Transactional(readOnly = true)
+    @DbBulkhead(BulkheadType.READ)
     public ResponseMessage getUser(Long id, Authentication connectedUser) {
         var user = ((User) connectedUser.getPrincipal());
         var retrievedUser = getById(id);
         if (!user.getId().equals(retrievedUser.getId()) &&
-                user.getRoles().stream().noneMatch(role -> role.getName().equals(RoleName.ADMIN))) {
+                !user.hasRole(RoleName.ADMIN)) {
             throw new OperationNotPermittedException("You are not authorized to retrieve this user");
         }
         return new ResponseMessage(UserMapper.toDto(retrievedUser), "User retrieved successfully");
@@ -110,6 +121,8 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     @Cacheable("users")
+    @Transactional(readOnly = true)
+    @DbBulkhead(BulkheadType.READ)
     public PageResponse<UserDto> getUsers(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by("createdAt").descending());
         Page<User> users = userRepository.findAll(pageable);
@@ -137,6 +150,8 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     @CacheEvict(value = "users", allEntries = true)
+    @Transactional
+    @DbBulkhead(BulkheadType.WRITE)
     public ResponseMessage updatePassword(UserPasswordUpdateRequest request, Authentication connectedUser) {
         var user = ((User) connectedUser.getPrincipal());
         var currentUser = userRepository.findById(request.getId()).orElseThrow(() -> new AppBadRequestException("User not found"));
@@ -0,0 +1,50 @@
+package tech.nuqta.taskmanagement.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressedTextTests {
+    private static final String LARGE = "processed task 42 in 17 ms\n".repeat(200);
+
+    @Test
+    void roundTripsPlainAndCompressedForms() {
+        var text = "Задача 🚀 " + LARGE;
+
+        var plain = CompressedText.of(text).toStored(Integer.MAX_VALUE);
+        var compressed = CompressedText.of(text).toStored(0);
+
+        assertThat(plain[0]).isEqualTo(CompressedText.PLAIN);
+        assertThat(compressed[0]).isEqualTo(CompressedText.LZ4);
+        assertThat(compressed.length).isLessThan(plain.length);
+        assertThat(CompressedText.fromStored(plain).text()).isEqualTo(text);
+        assertThat(CompressedText.fromStored(compressed).text()).isEqualTo(text);
+    }
+
+    @Test
+    void equalsAcrossTextAndStoredForms() {
+        var text = CompressedText.of(LARGE);
+        var plain = CompressedText.fromStored(text.toStored(Integer.MAX_VALUE));
+        var compressed = CompressedText.fromStored(text.toStored(0));
+
+        assertThat(text).isEqualTo(plain).isEqualTo(compressed).hasSameHashCodeAs(plain).hasSameHashCodeAs(compressed);
+        assertThat(plain).isEqualTo(text).isEqualTo(compressed);
+        assertThat(compressed).isEqualTo(text).isEqualTo(plain);
+        assertThat(compressed).isNotEqualTo(CompressedText.of(LARGE.replace('4', '5')));
+        assertThat(plain).isNotEqualTo(CompressedText.of(LARGE + "."));
+    }
+
+    @Test
+    void hashCodeIsTheUtf8LengthWhateverTheForm() {
+        var text = "ASCII, кириллица, 漢字, 🚀 and an unpaired \uD800";
+        int utf8Length = text.getBytes(StandardCharsets.UTF_8).length;
+
+        assertThat(CompressedText.of(text).hashCode()).isEqualTo(utf8Length);
+        assertThat(CompressedText.fromStored(CompressedText.of(text).toStored(Integer.MAX_VALUE)).hashCode())
+                .isEqualTo(utf8Length);
+        assertThat(CompressedText.fromStored(CompressedText.of(LARGE).toStored(0)).hashCode())
+                .isEqualTo(LARGE.length());
+    }
+}
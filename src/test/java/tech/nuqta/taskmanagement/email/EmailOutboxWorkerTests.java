@@ -0,0 +1,101 @@
+package tech.nuqta.taskmanagement.email;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.nuqta.taskmanagement.enums.EmailOutboxStatus;
+import tech.nuqta.taskmanagement.enums.EmailTemplateName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "application.mailing.outbox.enabled=false")
+class EmailOutboxWorkerTests {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private EmailService emailService;
+    @Autowired
+    private EmailOutboxWorker worker;
+    @Autowired
+    private EmailOutboxRepository outboxRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @TestConfiguration
+    static class GreenMailConfig {
+        @Bean
+        @Primary
+        public JavaMailSender greenMailSender() {
+            var mailSender = new JavaMailSenderImpl();
+            mailSender.setHost("localhost");
+            mailSender.setPort(ServerSetupTest.SMTP.getPort());
+            return mailSender;
+        }
+    }
+
+    @Test
+    void deliversQueuedEmailsAndMarksThemSent() throws MessagingException {
+        var recipients = new ArrayList<String>();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < 3; i++) {
+                var recipient = UUID.randomUUID() + "@example.com";
+                recipients.add(recipient);
+                emailService.queueEmail(recipient, "Test User", EmailTemplateName.ACTIVATE_ACCOUNT,
+                        "http://localhost/activate", "123456", "Account activation");
+            }
+        });
+
+        worker.deliverPendingEmails();
+
+        assertThat(receivedBy(recipients)).hasSize(3);
+        assertThat(outboxRepository.findAll())
+                .filteredOn(email -> recipients.contains(email.getRecipient()))
+                .hasSize(3)
+                .allMatch(email -> email.getStatus() == EmailOutboxStatus.SENT && email.getSentAt() != null);
+    }
+
+    @Test
+    void discardsEmailWhenTransactionRollsBack() {
+        var recipient = UUID.randomUUID() + "@example.com";
+        transactionTemplate.executeWithoutResult(status -> {
+            emailService.queueEmail(recipient, "Test User", EmailTemplateName.ACTIVATE_ACCOUNT,
+                    "http://localhost/activate", "123456", "Account activation");
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxRepository.findAll())
+                .noneMatch(email -> recipient.equals(email.getRecipient()));
+    }
+
+    private List<MimeMessage> receivedBy(List<String> recipients) throws MessagingException {
+        var received = new ArrayList<MimeMessage>();
+        for (var message : greenMail.getReceivedMessages()) {
+            var to = Arrays.stream(message.getRecipients(Message.RecipientType.TO))
+                    .map(Object::toString)
+                    .toList();
+            if (recipients.stream().anyMatch(to::contains)) {
+                received.add(message);
+            }
+        }
+        return received;
+    }
+}
@@ -0,0 +1,45 @@
+package tech.nuqta.taskmanagement.email;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import tech.nuqta.taskmanagement.enums.EmailTemplateName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailTemplateRendererTests {
+    private final EmailTemplateRenderer renderer = new EmailTemplateRenderer(new JavaMailSenderImpl());
+
+    @Test
+    void fillsVariablesIntoStaticParts() throws Exception {
+        var message = renderer.newBatch().render(email("Ali <Valiyev>", "uz-UZ"));
+
+        var html = (String) message.getContent();
+        assertThat(html)
+                .contains("Hello Ali &lt;Valiyev&gt;,")
+                .contains("<span>123456</span>")
+                .contains("href=\"http://localhost:4200/activate-account?email=a&amp;b\"")
+                .doesNotContain("%%");
+    }
+
+    @Test
+    void rendersEmailsWithoutLocaleOrWithMissingValues() throws Exception {
+        var email = email(null, null);
+
+        var html = (String) renderer.newBatch().render(email).getContent();
+
+        assertThat(html).contains("<span>123456</span>").doesNotContain("%%");
+    }
+
+    private static EmailOutbox email(String username, String locale) {
+        return EmailOutbox.builder()
+                .id(1L)
+                .recipient("user@example.com")
+                .username(username)
+                .template(EmailTemplateName.ACTIVATE_ACCOUNT)
+                .confirmationUrl("http://localhost:4200/activate-account?email=a&b")
+                .activationCode("123456")
+                .subject("Account activation")
+                .locale(locale)
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package tech.nuqta.taskmanagement.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class TimeOrderedIdsTests {
+    private static final long NOW = TimeOrderedIds.EPOCH.toEpochMilli() + 1_000_000;
+
+    @Test
+    void idsCarryTimestampAndNode() {
+        var ids = new TimeOrderedIds(5, 0, () -> NOW);
+
+        long id = ids.next();
+
+        assertThat(TimeOrderedIds.timestamp(id).toEpochMilli()).isEqualTo(NOW);
+        assertThat((id >>> TimeOrderedIds.SEQUENCE_BITS) & TimeOrderedIds.MAX_NODE_ID).isEqualTo(5);
+    }
+
+    @Test
+    void idsKeepIncreasingWhenSequenceRunsOutOrClockStepsBack() {
+        var clock = new AtomicLong(NOW);
+        var ids = new TimeOrderedIds(1, 0, clock::get);
+
+        long previous = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                clock.set(NOW - 60_000);
+            }
+            long id = ids.next();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    void restartedGeneratorContinuesAfterTheHighestStoredId() {
+        var clock = new AtomicLong(NOW);
+        var before = new TimeOrderedIds(1, 0, clock::get);
+        long highest = 0;
+        for (int i = 0; i < 10_000; i++) {
+            highest = before.next();
+        }
+        var otherNode = new TimeOrderedIds(2, 0, clock::get).next();
+
+        var restarted = new TimeOrderedIds(1, Math.max(highest, otherNode), clock::get);
+
+        assertThat(restarted.next()).isGreaterThan(highest).isGreaterThan(otherNode);
+    }
+
+    @Test
+    void idsAreUniqueAcrossThreads() {
+        var ids = new TimeOrderedIds(0);
+        var seen = ConcurrentHashMap.<Long>newKeySet();
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            IntStream.range(0, 8).forEach(t -> executor.submit(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    seen.add(ids.next());
+                }
+            }));
+        }
+
+        assertThat(seen).hasSize(400_000);
+    }
+
+    @Test
+    void rejectsNodeIdsOutsideTheLayout() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TimeOrderedIds(TimeOrderedIds.MAX_NODE_ID + 1));
+    }
+}
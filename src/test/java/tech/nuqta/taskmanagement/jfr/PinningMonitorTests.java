@@ -0,0 +1,100 @@
+package tech.nuqta.taskmanagement.jfr;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "application.jfr.pinning.threshold=0ms",
+                "application.rate-limit.enabled=false",
+                "application.mailing.outbox.enabled=false"
+        })
+class PinningMonitorTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private PinningMonitor pinningMonitor;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void mainRequestPathsHaveNoNewPinningSites() throws Exception {
+        var login = restTemplate.postForObject("/api/v1/auth/authenticate",
+                Map.of("email", "admin@handihub.uz", "password", "admin"),
+                Map.class);
+        var headers = new HttpHeaders();
+        headers.setBearerAuth((String) login.get("access_token"));
+        var request = new HttpEntity<>(headers);
+
+        for (int i = 0; i < 20; i++) {
+            for (var path : List.of(
+                    "/api/v1/tasks/get-all?page=1&size=20",
+                    "/api/v1/tasks/get-task-by-author/" + login.get("id") + "?page=1&size=20",
+                    "/api/v1/comments/all?page=1&size=20",
+                    "/api/v1/user/get-all?page=1&size=20")) {
+                restTemplate.exchange(path, HttpMethod.GET, request, String.class);
+            }
+        }
+
+        assertThat(pinningMonitor.awaitFlush(Duration.ofSeconds(10))).isTrue();
+        var allowlist = allowlist();
+        assertThat(pinningMonitor.pinnedSites())
+                .filteredOn(site -> !site.startsWith(PinningMonitorTests.class.getName()))
+                .allSatisfy(site -> assertThat(allowlist)
+                        .as("pinning site %s is not in pinning-allowlist.txt", site)
+                        .anyMatch(site::startsWith));
+    }
+
+    @Test
+    void pinningIsTaggedWithTheEndpointAfterTheRequestHasFinished() throws Exception {
+        var thread = Thread.ofVirtual().start(() -> {
+            ThreadEndpoints.enter("GET /pinning-test");
+            try {
+                pinWhileSleeping();
+            } finally {
+                ThreadEndpoints.exit();
+            }
+        });
+        thread.join();
+
+        assertThat(pinningMonitor.awaitFlush(Duration.ofSeconds(10))).isTrue();
+        assertThat(meterRegistry.find("jvm.threads.virtual.pinned").tag("endpoint", "GET /pinning-test").timer())
+                .isNotNull()
+                .satisfies(timer -> assertThat(timer.count()).isPositive());
+    }
+
+    private static void pinWhileSleeping() {
+        synchronized (PinningMonitorTests.class) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static List<String> allowlist() throws IOException {
+        return new ClassPathResource("pinning-allowlist.txt").getContentAsString(StandardCharsets.UTF_8)
+                .lines()
+                .map(String::strip)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .toList();
+    }
+}
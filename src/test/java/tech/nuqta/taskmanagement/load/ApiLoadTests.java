@@ -0,0 +1,351 @@
+package tech.nuqta.taskmanagement.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.nuqta.taskmanagement.comment.entity.CommentEntity;
+import tech.nuqta.taskmanagement.comment.repository.CommentRepository;
+import tech.nuqta.taskmanagement.compression.CompressedText;
+import tech.nuqta.taskmanagement.enums.RoleName;
+import tech.nuqta.taskmanagement.enums.TaskPriority;
+import tech.nuqta.taskmanagement.enums.TaskStatus;
+import tech.nuqta.taskmanagement.security.JwtService;
+import tech.nuqta.taskmanagement.task.entity.TaskEntity;
+import tech.nuqta.taskmanagement.task.repository.TaskRepository;
+import tech.nuqta.taskmanagement.user.entity.User;
+import tech.nuqta.taskmanagement.user.repository.UserRepository;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives a mix of task and comment calls against the running application and records latencies in HdrHistograms.
+ * It needs the local PostgreSQL from docker-compose and is excluded from {@code test}; run it with
+ * {@code ./gradlew loadTest}, optionally overriding {@code -Pload.concurrency=...} and the other {@code load.*} settings.
+ * Every virtual user sends its next request as soon as the previous one completes, so the numbers describe
+ * a closed workload of {@code concurrency} clients. The report is written to {@code build/reports/load-test}.
+ */
+@Tag("load")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "application.rate-limit.enabled=false",
+                "application.mailing.outbox.enabled=false"
+        })
+class ApiLoadTests {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    enum Operation {
+        LIST_TASKS(35),
+        GET_TASK(30),
+        ADD_TASK(10),
+        UPDATE_TASK(10),
+        LIST_COMMENTS(10),
+        ADD_COMMENT(5);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        static Operation pick(int roll) {
+            for (var operation : values()) {
+                roll -= operation.weight;
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            return LIST_TASKS;
+        }
+
+        static int totalWeight() {
+            return Arrays.stream(values()).mapToInt(o -> o.weight).sum();
+        }
+    }
+
+    record LoadConfig(int users, int tasksPerUser, int commentsPerTask, int concurrency,
+                      Duration warmup, Duration duration, double maxErrorRate, Path reportDir) {
+
+        static LoadConfig fromSystemProperties() {
+            return new LoadConfig(
+                    Integer.getInteger("load.users", 50),
+                    Integer.getInteger("load.tasks-per-user", 40),
+                    Integer.getInteger("load.comments-per-task", 3),
+                    Integer.getInteger("load.concurrency", 64),
+                    Duration.parse(System.getProperty("load.warmup", "PT10S")),
+                    Duration.parse(System.getProperty("load.duration", "PT60S")),
+                    Double.parseDouble(System.getProperty("load.max-error-rate", "0.01")),
+                    Path.of(System.getProperty("load.report-dir", "build/reports/load-test")));
+        }
+    }
+
+    record VirtualUser(Long id, String token, List<Long> taskIds) {
+    }
+
+    static final class OperationStats {
+        private final ConcurrentHistogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    @Test
+    void mixedWorkload() throws Exception {
+        var config = LoadConfig.fromSystemProperties();
+        var users = seed(config);
+        var allTaskIds = users.stream().flatMap(u -> u.taskIds().stream()).toList();
+
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var client = HttpClient.newBuilder()
+                    .executor(clientExecutor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            drive(client, config, config.warmup(), users, allTaskIds);
+            var started = System.nanoTime();
+            var stats = drive(client, config, config.duration(), users, allTaskIds);
+            var elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+            var summary = writeReport(config, stats, elapsed);
+            assertThat((double) summary.get("errorRate")).isLessThanOrEqualTo(config.maxErrorRate());
+        }
+    }
+
+    private List<VirtualUser> seed(LoadConfig config) {
+        var runId = UUID.randomUUID().toString().substring(0, 8);
+        var password = passwordEncoder.encode("load-test");
+        return transactionTemplate.execute(status -> {
+            var users = new ArrayList<User>(config.users());
+            for (int i = 0; i < config.users(); i++) {
+                users.add(User.builder()
+                        .firstname("Load")
+                        .lastname("User " + i)
+                        .email("load-" + runId + "-" + i + "@example.com")
+                        .password(password)
+                        .enabled(true)
+                        .accountLocked(false)
+                        .roleMask(RoleName.USER.getMask())
+                        .build());
+            }
+            userRepository.saveAll(users);
+
+            var virtualUsers = new ArrayList<VirtualUser>(users.size());
+            for (int i = 0; i < users.size(); i++) {
+                var author = users.get(i);
+                var assignee = users.get((i + 1) % users.size());
+                var tasks = new ArrayList<TaskEntity>(config.tasksPerUser());
+                for (int t = 0; t < config.tasksPerUser(); t++) {
+                    var task = new TaskEntity();
+                    task.setTitle("Load task " + t);
+                    task.setDescription(CompressedText.of("Seeded by the load test run " + runId));
+                    task.setStatus(TaskStatus.values()[t % TaskStatus.values().length]);
+                    task.setPriority(TaskPriority.values()[t % TaskPriority.values().length]);
+                    task.setAuthor(author);
+                    task.setAssignee(assignee);
+                    task.setCreatedBy(author.getId());
+                    tasks.add(task);
+                }
+                taskRepository.saveAll(tasks);
+
+                var comments = new ArrayList<CommentEntity>();
+                for (var task : tasks) {
+                    for (int c = 0; c < config.commentsPerTask(); c++) {
+                        var comment = new CommentEntity();
+                        comment.setContent(CompressedText.of("Load comment " + c));
+                        comment.setTask(task);
+                        comment.setAuthor(assignee);
+                        comment.setCreatedBy(assignee.getId());
+                        comments.add(comment);
+                    }
+                }
+                commentRepository.saveAll(comments);
+
+                var claims = new HashMap<String, Object>();
+                claims.put("fullName", author.getFullName());
+                virtualUsers.add(new VirtualUser(
+                        author.getId(),
+                        jwtService.generateToken(claims, author),
+                        tasks.stream().map(TaskEntity::getId).toList()));
+            }
+            return virtualUsers;
+        });
+    }
+
+    private Map<Operation, OperationStats> drive(HttpClient client, LoadConfig config, Duration duration,
+                                                 List<VirtualUser> users, List<Long> allTaskIds) {
+        var stats = new EnumMap<Operation, OperationStats>(Operation.class);
+        for (var operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+        var deadline = System.nanoTime() + duration.toNanos();
+        try (var workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.concurrency(); i++) {
+                workers.submit(() -> {
+                    var random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        var user = users.get(random.nextInt(users.size()));
+                        var operation = Operation.pick(random.nextInt(Operation.totalWeight()));
+                        var request = buildRequest(operation, user, users, allTaskIds, random);
+                        var operationStats = stats.get(operation);
+                        var start = System.nanoTime();
+                        try {
+                            var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                operationStats.errors.increment();
+                            }
+                        } catch (IOException e) {
+                            operationStats.errors.increment();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        var micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+                        operationStats.latency.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+                    }
+                });
+            }
+        }
+        return stats;
+    }
+
+    private HttpRequest buildRequest(Operation operation, VirtualUser user, List<VirtualUser> users,
+                                     List<Long> allTaskIds, Random random) {
+        var anyTaskId = allTaskIds.get(random.nextInt(allTaskIds.size()));
+        return switch (operation) {
+            case LIST_TASKS -> get(user, "/api/v1/tasks/get-all?page=" + (1 + random.nextInt(5)) + "&size=20");
+            case GET_TASK -> get(user, "/api/v1/tasks/get/" + anyTaskId);
+            case ADD_TASK -> send(user, "POST", "/api/v1/tasks/add", Map.of(
+                    "title", "Load task",
+                    "description", "Created under load",
+                    "authorId", user.id(),
+                    "assigneeId", otherUser(user, users, random).id(),
+                    "priority", TaskPriority.values()[random.nextInt(TaskPriority.values().length)],
+                    "status", TaskStatus.values()[random.nextInt(TaskStatus.values().length)]));
+            case UPDATE_TASK -> {
+                var taskId = user.taskIds().get(random.nextInt(user.taskIds().size()));
+                yield send(user, "PUT", "/api/v1/tasks/update", Map.of(
+                        "id", taskId,
+                        "title", "Load task updated",
+                        "description", "Updated under load at " + LocalDateTime.now(),
+                        "authorId", user.id(),
+                        "assigneeId", otherUser(user, users, random).id(),
+                        "priority", TaskPriority.values()[random.nextInt(TaskPriority.values().length)],
+                        "status", TaskStatus.values()[random.nextInt(TaskStatus.values().length)]));
+            }
+            case LIST_COMMENTS -> get(user, "/api/v1/comments/by-task/" + anyTaskId
+                    + "?taskId=" + anyTaskId + "&page=1&size=20");
+            case ADD_COMMENT -> send(user, "POST", "/api/v1/comments/add", Map.of(
+                    "content", "Comment under load",
+                    "taskId", anyTaskId,
+                    "authorId", user.id()));
+        };
+    }
+
+    private static VirtualUser otherUser(VirtualUser user, List<VirtualUser> users, Random random) {
+        var other = users.get(random.nextInt(users.size()));
+        return other.equals(user) ? users.get((users.indexOf(user) + 1) % users.size()) : other;
+    }
+
+    private HttpRequest get(VirtualUser user, String path) {
+        return request(user, path).GET().build();
+    }
+
+    private HttpRequest send(VirtualUser user, String method, String path, Map<String, Object> body) {
+        try {
+            return request(user, path)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(VirtualUser user, String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + user.token());
+    }
+
+    private Map<String, Object> writeReport(LoadConfig config, Map<Operation, OperationStats> stats,
+                                            Duration elapsed) throws IOException {
+        Files.createDirectories(config.reportDir());
+        var seconds = elapsed.toNanos() / 1e9;
+        var total = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        var operations = new LinkedHashMap<String, Object>();
+        for (var entry : stats.entrySet()) {
+            var latency = entry.getValue().latency;
+            var errors = entry.getValue().errors.sum();
+            total.add(latency);
+            totalErrors += errors;
+            operations.put(entry.getKey().name(), summarize(latency, errors, seconds));
+            try (var out = new PrintStream(config.reportDir().resolve(entry.getKey().name() + ".hgrm").toFile())) {
+                latency.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+
+        var summary = new LinkedHashMap<String, Object>();
+        summary.put("timestamp", Instant.now().toString());
+        summary.put("concurrency", config.concurrency());
+        summary.put("users", config.users());
+        summary.put("durationSeconds", seconds);
+        summary.putAll(summarize(total, totalErrors, seconds));
+        summary.put("errorRate", total.getTotalCount() == 0 ? 1.0 : (double) totalErrors / total.getTotalCount());
+        summary.put("operations", operations);
+        objectMapper.writerWithDefaultPrettyPrinter()
+                .writeValue(config.reportDir().resolve("summary.json").toFile(), summary);
+        return summary;
+    }
+
+    private static Map<String, Object> summarize(ConcurrentHistogram latency, long errors, double seconds) {
+        var result = new LinkedHashMap<String, Object>();
+        result.put("requests", latency.getTotalCount());
+        result.put("errors", errors);
+        result.put("throughputPerSecond", latency.getTotalCount() / seconds);
+        result.put("p50Millis", latency.getValueAtPercentile(50) / 1000.0);
+        result.put("p99Millis", latency.getValueAtPercentile(99) / 1000.0);
+        result.put("p999Millis", latency.getValueAtPercentile(99.9) / 1000.0);
+        result.put("maxMillis", latency.getMaxValue() / 1000.0);
+        return result;
+    }
+}
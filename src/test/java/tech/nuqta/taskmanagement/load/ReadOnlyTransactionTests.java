@@ -0,0 +1,112 @@
+package tech.nuqta.taskmanagement.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.nuqta.taskmanagement.task.dto.TaskDto;
+import tech.nuqta.taskmanagement.task.repository.TaskRepository;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures allocation and CPU time per task list request: the list in a read-write and in a read-only transaction,
+ * and the full list against the summary list that leaves the descriptions out.
+ * Read-only transactions skip Hibernate's dirty-checking snapshots and the flush on commit.
+ * Like {@link ApiLoadTests} it needs the local PostgreSQL and runs with {@code ./gradlew loadTest}.
+ */
+@Tag("load")
+@SpringBootTest(properties = "application.mailing.outbox.enabled=false")
+class ReadOnlyTransactionTests {
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+    private static final int PAGE_SIZE = 100;
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void readOnlyListRequestsAllocateLess() throws Exception {
+        var readWrite = new TransactionTemplate(transactionManager);
+        var readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        measure(readWrite, this::listTasks, WARMUP);
+        measure(readOnly, this::listTasks, WARMUP);
+        var readWriteCost = measure(readWrite, this::listTasks, ITERATIONS);
+        var readOnlyCost = measure(readOnly, this::listTasks, ITERATIONS);
+
+        writeReport("read-only.json", Map.of("readWrite", readWriteCost, "readOnly", readOnlyCost));
+
+        assertThat(readOnlyCost.get("bytesPerRequest")).isLessThanOrEqualTo(readWriteCost.get("bytesPerRequest"));
+    }
+
+    @Test
+    void summaryListRequestsAllocateLess() throws Exception {
+        var readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        measure(readOnly, this::listTasks, WARMUP);
+        measure(readOnly, this::listTaskSummaries, WARMUP);
+        var fullCost = measure(readOnly, this::listTasks, ITERATIONS);
+        var summaryCost = measure(readOnly, this::listTaskSummaries, ITERATIONS);
+
+        writeReport("summary.json", Map.of("full", fullCost, "summary", summaryCost));
+
+        assertThat(summaryCost.get("bytesPerRequest")).isLessThanOrEqualTo(fullCost.get("bytesPerRequest"));
+    }
+
+    private List<TaskDto> listTasks() {
+        return taskRepository.findByIsDeletedFalse(page()).getContent();
+    }
+
+    private List<TaskDto> listTaskSummaries() {
+        return taskRepository.findSummariesByIsDeletedFalse(page()).getContent();
+    }
+
+    private static PageRequest page() {
+        return PageRequest.of(0, PAGE_SIZE, Sort.by("createdAt").descending());
+    }
+
+    private void writeReport(String fileName, Map<String, Map<String, Long>> costs) throws Exception {
+        var report = new LinkedHashMap<String, Object>();
+        report.put("pageSize", PAGE_SIZE);
+        report.put("iterations", ITERATIONS);
+        report.putAll(new TreeMap<>(costs));
+        var reportDir = Path.of(System.getProperty("load.report-dir", "build/reports/load-test"));
+        Files.createDirectories(reportDir);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportDir.resolve(fileName).toFile(), report);
+    }
+
+    private Map<String, Long> measure(TransactionTemplate template, Supplier<List<TaskDto>> request, int iterations) {
+        var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long bytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long cpuBefore = threadMXBean.getCurrentThreadCpuTime();
+        for (int i = 0; i < iterations; i++) {
+            template.executeWithoutResult(status -> request.get());
+        }
+        var result = new LinkedHashMap<String, Long>();
+        result.put("bytesPerRequest", (threadMXBean.getThreadAllocatedBytes(threadId) - bytesBefore) / iterations);
+        result.put("cpuNanosPerRequest", (threadMXBean.getCurrentThreadCpuTime() - cpuBefore) / iterations);
+        return result;
+    }
+}
@@ -0,0 +1,45 @@
+package tech.nuqta.taskmanagement.partition;
+
+import org.junit.jupiter.api.Test;
+import tech.nuqta.taskmanagement.id.TimeOrderedIds;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CreatedAtRangeTests {
+
+    @Test
+    void rangeOfATimeOrderedIdContainsTheTimeItWasIssuedAt() {
+        var now = LocalDateTime.now();
+        long id = new TimeOrderedIds(1).next();
+
+        var range = CreatedAtRange.of(id).orElseThrow();
+
+        assertThat(range.from()).isBefore(now).isAfter(now.minus(CreatedAtRange.SKEW).minusMinutes(1));
+        assertThat(range.to()).isAfter(now).isBefore(now.plus(CreatedAtRange.SKEW).plusMinutes(1));
+    }
+
+    @Test
+    void rangeOfManyIdsSpansTheOldestAndTheNewest() {
+        var ids = new TimeOrderedIds(1);
+        long first = ids.next();
+        long last = ids.next();
+
+        var range = CreatedAtRange.of(List.of(last, first)).orElseThrow();
+
+        assertThat(range).isEqualTo(new CreatedAtRange(CreatedAtRange.of(first).orElseThrow().from(),
+                CreatedAtRange.of(last).orElseThrow().to()));
+    }
+
+    @Test
+    void identityIdsAndNegativeIdsHaveNoRange() {
+        long timeOrdered = new TimeOrderedIds(1).next();
+
+        assertThat(CreatedAtRange.of(42L)).isEmpty();
+        assertThat(CreatedAtRange.of(-1L)).isEmpty();
+        assertThat(CreatedAtRange.of(List.of(timeOrdered, 42L))).isEmpty();
+        assertThat(CreatedAtRange.of(List.of())).isEmpty();
+    }
+}
@@ -0,0 +1,102 @@
+package tech.nuqta.taskmanagement.partition;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.nuqta.taskmanagement.comment.entity.CommentEntity;
+import tech.nuqta.taskmanagement.comment.repository.CommentRepository;
+import tech.nuqta.taskmanagement.compression.CompressedText;
+import tech.nuqta.taskmanagement.enums.RoleName;
+import tech.nuqta.taskmanagement.enums.TaskPriority;
+import tech.nuqta.taskmanagement.enums.TaskStatus;
+import tech.nuqta.taskmanagement.task.entity.TaskEntity;
+import tech.nuqta.taskmanagement.task.repository.TaskRepository;
+import tech.nuqta.taskmanagement.user.entity.User;
+import tech.nuqta.taskmanagement.user.repository.UserRepository;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "application.mailing.outbox.enabled=false")
+class PartitionArchiverTests {
+    @Autowired
+    private PartitionArchiver archiver;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void movesDeadTasksWithTheirCommentsAndDeletedComments() {
+        var user = transactionTemplate.execute(status -> userRepository.save(User.builder()
+                .firstname("Archive")
+                .lastname("Test")
+                .email("archive-" + UUID.randomUUID() + "@example.com")
+                .password("unused")
+                .enabled(true)
+                .accountLocked(false)
+                .roleMask(RoleName.USER.getMask())
+                .build()));
+        var live = task(user, TaskStatus.OPEN);
+        var deleted = task(user, TaskStatus.IN_PROGRESS);
+        var done = task(user, TaskStatus.DONE);
+        var recentlyDone = task(user, TaskStatus.DONE);
+        var commentOnDeleted = comment(user, deleted);
+        var liveComment = comment(user, live);
+        var deletedComment = comment(user, live);
+        jdbcTemplate.update("UPDATE tasks SET is_deleted = true WHERE id = ?", deleted.getId());
+        jdbcTemplate.update("UPDATE tasks SET updated_at = localtimestamp - interval '91 days' WHERE id = ?", done.getId());
+        jdbcTemplate.update("UPDATE comments SET is_deleted = true WHERE id = ?", deletedComment.getId());
+
+        archiver.archive();
+
+        assertThat(archived("tasks", live.getId())).isFalse();
+        assertThat(archived("tasks", deleted.getId())).isTrue();
+        assertThat(archived("tasks", done.getId())).isTrue();
+        assertThat(archived("tasks", recentlyDone.getId())).isFalse();
+        assertThat(archived("comments", commentOnDeleted.getId())).isTrue();
+        assertThat(archived("comments", liveComment.getId())).isFalse();
+        assertThat(archived("comments", deletedComment.getId())).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT description FROM tasks_archive WHERE id = ?", byte[].class,
+                deleted.getId())).isEqualTo(CompressedText.of("Archived with its task").toStored(Integer.MAX_VALUE));
+    }
+
+    private TaskEntity task(User author, TaskStatus status) {
+        var task = new TaskEntity();
+        task.setTitle("Archive test task");
+        task.setDescription(CompressedText.of("Archived with its task"));
+        task.setStatus(status);
+        task.setPriority(TaskPriority.values()[0]);
+        task.setAuthor(author);
+        task.setAssignee(author);
+        task.setCreatedBy(author.getId());
+        return transactionTemplate.execute(s -> taskRepository.save(task));
+    }
+
+    private CommentEntity comment(User author, TaskEntity task) {
+        var comment = new CommentEntity();
+        comment.setContent(CompressedText.of("Archive test comment"));
+        comment.setTask(task);
+        comment.setAuthor(author);
+        comment.setCreatedBy(author.getId());
+        return transactionTemplate.execute(s -> commentRepository.save(comment));
+    }
+
+    /**
+     * Returns whether the row is in the archive table and gone from the live one.
+     */
+    private boolean archived(String table, Long id) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("""
+                SELECT EXISTS (SELECT 1 FROM %1$s_archive WHERE id = ?) AND NOT EXISTS (SELECT 1 FROM %1$s WHERE id = ?)
+                """.formatted(table), Boolean.class, id, id));
+    }
+}
@@ -0,0 +1,122 @@
+package tech.nuqta.taskmanagement.partition;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the migration on unpartitioned copies of {@code users}, {@code tasks} and {@code comments}
+ * in a schema of their own, reached through a connection whose search path is that schema.
+ */
+@SpringBootTest(properties = "application.mailing.outbox.enabled=false")
+class PartitionMigrationTests {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    private String schema;
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbc;
+    private PartitionMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        schema = "partition_test_" + UUID.randomUUID().toString().substring(0, 8);
+        jdbcTemplate.execute("CREATE SCHEMA " + schema);
+        var url = dataSourceProperties.getUrl() + (dataSourceProperties.getUrl().contains("?") ? "&" : "?")
+                + "currentSchema=" + schema;
+        dataSource = new SingleConnectionDataSource(url, dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword(), true);
+        jdbc = new JdbcTemplate(dataSource);
+        migration = new PartitionMigration(jdbc, new PartitionMaintainer(jdbc, new PartitioningProperties()));
+
+        jdbc.execute("CREATE TABLE users (id bigint PRIMARY KEY)");
+        jdbc.execute("""
+                CREATE TABLE tasks (id bigint PRIMARY KEY, created_at timestamp NOT NULL, updated_at timestamp,
+                    status varchar(20), is_deleted boolean, description bytea,
+                    author_id bigint REFERENCES users, assignee_id bigint REFERENCES users)
+                """);
+        jdbc.execute("""
+                CREATE TABLE comments (id bigint PRIMARY KEY, created_at timestamp NOT NULL, updated_at timestamp,
+                    is_deleted boolean, content bytea,
+                    task_id bigint REFERENCES tasks, author_id bigint REFERENCES users)
+                """);
+        jdbc.execute("INSERT INTO users VALUES (1), (2)");
+        jdbc.execute("INSERT INTO tasks (id, created_at, status, is_deleted, author_id, assignee_id) "
+                + "VALUES (10, '2024-03-05', 'TODO', false, 1, 2)");
+        jdbc.execute("INSERT INTO comments (id, created_at, is_deleted, task_id, author_id) "
+                + "VALUES (20, '2024-03-06', false, 10, 2)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+        jdbcTemplate.execute("DROP SCHEMA " + schema + " CASCADE");
+    }
+
+    @Test
+    void partitionsTablesAndKeepsRowsAndUserReferences() {
+        migration.migrate();
+
+        assertThat(jdbc.queryForObject("""
+                SELECT count(*) FROM pg_partitioned_table
+                WHERE partrelid IN (to_regclass('tasks'), to_regclass('comments'))
+                """, Integer.class)).isEqualTo(2);
+        assertThat(jdbc.queryForObject("SELECT to_regclass('tasks_2024_03') IS NOT NULL", Boolean.class)).isTrue();
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM tasks WHERE id = 10", Integer.class)).isOne();
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM comments WHERE id = 20", Integer.class)).isOne();
+        assertThat(userReferences()).isEqualTo(3);
+        assertThatThrownBy(() -> jdbc.update("INSERT INTO tasks (id, created_at, author_id) VALUES (11, localtimestamp, 99)"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void createsArchiveTablesWithTheLiveColumnTypes() {
+        migration.migrate();
+
+        assertThat(jdbc.queryForList("""
+                SELECT table_name || '.' || column_name FROM information_schema.columns
+                WHERE table_schema = current_schema() AND table_name LIKE '%\\_archive' AND data_type = 'bytea'
+                ORDER BY 1
+                """, String.class)).containsExactly("comments_archive.content", "tasks_archive.description");
+        assertThat(jdbc.queryForObject(
+                "SELECT count(*) FROM information_schema.columns WHERE table_schema = current_schema() "
+                        + "AND table_name = 'tasks_archive' AND column_name = 'archived_at'", Integer.class)).isOne();
+    }
+
+    @Test
+    void repeatedRunRestoresMissingUserReferences() {
+        migration.migrate();
+        var constraint = jdbc.queryForObject("""
+                SELECT conname FROM pg_constraint
+                WHERE conrelid = to_regclass('tasks') AND contype = 'f' AND confrelid = to_regclass('users')
+                LIMIT 1
+                """, String.class);
+        jdbc.execute("ALTER TABLE tasks DROP CONSTRAINT " + constraint);
+
+        migration.migrate();
+
+        assertThat(userReferences()).isEqualTo(3);
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM tasks", Integer.class)).isOne();
+    }
+
+    private int userReferences() {
+        return jdbc.queryForObject("""
+                SELECT count(*) FROM pg_constraint
+                WHERE contype = 'f' AND confrelid = to_regclass('users')
+                    AND conrelid IN (to_regclass('tasks'), to_regclass('comments'))
+                """, Integer.class);
+    }
+}
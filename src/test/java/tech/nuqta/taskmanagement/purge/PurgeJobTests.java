@@ -0,0 +1,198 @@
+package tech.nuqta.taskmanagement.purge;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.nuqta.taskmanagement.comment.entity.CommentEntity;
+import tech.nuqta.taskmanagement.comment.repository.CommentRepository;
+import tech.nuqta.taskmanagement.compression.CompressedText;
+import tech.nuqta.taskmanagement.enums.RoleName;
+import tech.nuqta.taskmanagement.enums.TaskPriority;
+import tech.nuqta.taskmanagement.enums.TaskStatus;
+import tech.nuqta.taskmanagement.partition.PartitionArchiver;
+import tech.nuqta.taskmanagement.task.entity.TaskEntity;
+import tech.nuqta.taskmanagement.task.repository.TaskRepository;
+import tech.nuqta.taskmanagement.token.Token;
+import tech.nuqta.taskmanagement.token.TokenRepository;
+import tech.nuqta.taskmanagement.user.entity.User;
+import tech.nuqta.taskmanagement.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"application.mailing.outbox.enabled=false", "application.purge.pause=0ms"})
+class PurgeJobTests {
+    @Autowired
+    private PurgeJob purgeJob;
+    @Autowired
+    private PartitionArchiver archiver;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private TokenRepository tokenRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = transactionTemplate.execute(status -> userRepository.save(User.builder()
+                .firstname("Purge")
+                .lastname("Test")
+                .email("purge-" + UUID.randomUUID() + "@example.com")
+                .password("unused")
+                .enabled(true)
+                .accountLocked(false)
+                .roleMask(RoleName.USER.getMask())
+                .build()));
+    }
+
+    @Test
+    void deletesArchivedRowsPastTheRetention() {
+        var old = task();
+        var oldComment = comment(old);
+        var recent = task();
+        jdbcTemplate.update("UPDATE tasks SET is_deleted = true WHERE id IN (?, ?)", old.getId(), recent.getId());
+        archiver.archive();
+        jdbcTemplate.update("UPDATE tasks_archive SET archived_at = localtimestamp - interval '400 days' WHERE id = ?",
+                old.getId());
+        jdbcTemplate.update("UPDATE comments_archive SET archived_at = localtimestamp - interval '400 days' WHERE id = ?",
+                oldComment.getId());
+
+        purgeJob.purge();
+
+        assertThat(exists("tasks_archive", old.getId())).isFalse();
+        assertThat(exists("comments_archive", oldComment.getId())).isFalse();
+        assertThat(exists("tasks_archive", recent.getId())).isTrue();
+    }
+
+    @Test
+    void archivesCommentsWhoseTaskIsGone() {
+        var gone = task();
+        var orphan = comment(gone);
+        var kept = comment(task());
+        jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", gone.getId());
+
+        purgeJob.purge();
+
+        assertThat(exists("comments", orphan.getId())).isFalse();
+        assertThat(exists("comments_archive", orphan.getId())).isTrue();
+        assertThat(exists("comments", kept.getId())).isTrue();
+    }
+
+    @Test
+    void softDeletesContentOfUsersDeletedPastTheRetention() {
+        var liveTask = task();
+        var liveComment = comment(liveTask);
+        var author = user;
+        var recentlyDeletedTask = createUserAndTask();
+        deleteUser(user, "1 day");
+        var deletedUserTask = createUserAndTask();
+        var deletedUserComment = comment(liveTask);
+        deleteUser(user, "31 days");
+        user = author;
+
+        purgeJob.purge();
+
+        assertThat(softDeleted("tasks", deletedUserTask.getId())).isTrue();
+        assertThat(softDeleted("comments", deletedUserComment.getId())).isTrue();
+        assertThat(softDeleted("tasks", recentlyDeletedTask.getId())).isFalse();
+        assertThat(softDeleted("tasks", liveTask.getId())).isFalse();
+        assertThat(softDeleted("comments", liveComment.getId())).isFalse();
+    }
+
+    @Test
+    void deletesExpiredTokens() {
+        var expired = token(LocalDateTime.now().minusDays(2));
+        var valid = token(LocalDateTime.now().plusMinutes(5));
+
+        purgeJob.purge();
+
+        assertThat(exists("token", expired.getId())).isFalse();
+        assertThat(exists("token", valid.getId())).isTrue();
+    }
+
+    @Test
+    void skipsTheRunWhileAnotherInstanceHoldsTheLock() {
+        var expired = token(LocalDateTime.now().minusDays(2));
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (var statement = connection.createStatement()) {
+                statement.execute("SELECT pg_advisory_lock(hashtext('tech.nuqta.taskmanagement.purge.PurgeJob'))");
+                try {
+                    purgeJob.purge();
+                } finally {
+                    statement.execute("SELECT pg_advisory_unlock(hashtext('tech.nuqta.taskmanagement.purge.PurgeJob'))");
+                }
+            }
+            return null;
+        });
+
+        assertThat(exists("token", expired.getId())).isTrue();
+        purgeJob.purge();
+        assertThat(exists("token", expired.getId())).isFalse();
+    }
+
+    private TaskEntity createUserAndTask() {
+        setUp();
+        return task();
+    }
+
+    private void deleteUser(User deleted, String ago) {
+        jdbcTemplate.update("UPDATE users SET is_deleted = true, updated_at = localtimestamp - ?::interval WHERE id = ?",
+                ago, deleted.getId());
+    }
+
+    private TaskEntity task() {
+        var task = new TaskEntity();
+        task.setTitle("Purge test task");
+        task.setDescription(CompressedText.of("Purge test task"));
+        task.setStatus(TaskStatus.OPEN);
+        task.setPriority(TaskPriority.values()[0]);
+        task.setAuthor(user);
+        task.setAssignee(user);
+        task.setCreatedBy(user.getId());
+        return transactionTemplate.execute(s -> taskRepository.save(task));
+    }
+
+    private CommentEntity comment(TaskEntity task) {
+        var comment = new CommentEntity();
+        comment.setContent(CompressedText.of("Purge test comment"));
+        comment.setTask(task);
+        comment.setAuthor(user);
+        comment.setCreatedBy(user.getId());
+        return transactionTemplate.execute(s -> commentRepository.save(comment));
+    }
+
+    private Token token(LocalDateTime expiresAt) {
+        return transactionTemplate.execute(s -> tokenRepository.save(Token.builder()
+                .token(UUID.randomUUID().toString().substring(0, 6))
+                .createdAt(expiresAt.minusMinutes(5))
+                .expiresAt(expiresAt)
+                .user(user)
+                .build()));
+    }
+
+    private boolean exists(String table, Long id) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + table + " WHERE id = ?)", Boolean.class, id));
+    }
+
+    private boolean softDeleted(String table, Long id) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT is_deleted FROM " + table + " WHERE id = ?", Boolean.class, id));
+    }
+}
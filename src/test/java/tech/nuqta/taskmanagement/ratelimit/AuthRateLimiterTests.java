@@ -0,0 +1,99 @@
+package tech.nuqta.taskmanagement.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthRateLimiterTests {
+    private static final String ENDPOINT = "authenticate";
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AuthRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        var limits = new RateLimitProperties.EndpointLimits();
+        limits.setPerIp(bucket(3, Duration.ofHours(1)));
+        limits.setPerAccount(bucket(2, Duration.ofHours(1)));
+        var properties = new RateLimitProperties();
+        properties.setIdleExpiry(Duration.ofMinutes(15));
+        properties.setEndpoints(Map.of(ENDPOINT, limits));
+        rateLimiter = new AuthRateLimiter(properties, meterRegistry, now::get);
+    }
+
+    @Test
+    void limitsEachIpSeparately() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire(ENDPOINT, "10.0.0.1", null)).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire(ENDPOINT, "10.0.0.1", null)).isPositive();
+        assertThat(rateLimiter.tryAcquire(ENDPOINT, "10.0.0.2", null)).isZero();
+    }
+
+    @Test
+    void limitsAccountAcrossIps() {
+        assertThat(rateLimiter.tryAcquire(ENDPOINT, "10.0.0.1", "user@example.com")).isZero();
+        assertThat(rateLimiter.tryAcquire(ENDPOINT, "10.0.0.2", "user@example.com")).isZero();
+
+        assertThat(rateLimiter.tryAcquire(ENDPOINT, "10.0.0.3", "user@example.com")).isPositive();
+        assertThat(rateLimiter.tryAcquire(ENDPOINT, "10.0.0.3", "other@example.com")).isZero();
+    }
+
+    @Test
+    void rejectsByIpBeforeTakingAccountTokens() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire(ENDPOINT, "10.0.0.1", null);
+        }
+
+        assertThat(rateLimiter.tryAcquire(ENDPOINT, "10.0.0.1", "user@example.com")).isPositive();
+        assertThat(rateLimiter.tryAcquire(ENDPOINT, "10.0.0.2", "user@example.com")).isZero();
+        assertThat(rateLimiter.tryAcquire(ENDPOINT, "10.0.0.2", "user@example.com")).isZero();
+    }
+
+    @Test
+    void dropsBucketsAfterIdleExpiry() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire(ENDPOINT, "10.0.0.1", null);
+        }
+        assertThat(rateLimiter.tryAcquire(ENDPOINT, "10.0.0.1", null)).isPositive();
+
+        now.addAndGet(TimeUnit.MINUTES.toNanos(16));
+
+        assertThat(rateLimiter.tryAcquire(ENDPOINT, "10.0.0.1", null)).isZero();
+        assertThat(rateLimiter.tryAcquire(ENDPOINT, "10.0.0.1", null)).isZero();
+    }
+
+    @Test
+    void countsAllowedAndRejectedRequests() {
+        for (int i = 0; i < 4; i++) {
+            rateLimiter.tryAcquire(ENDPOINT, "10.0.0.1", null);
+        }
+
+        assertThat(count("ip", "allowed")).isEqualTo(3);
+        assertThat(count("ip", "rejected")).isEqualTo(1);
+    }
+
+    private double count(String key, String outcome) {
+        return meterRegistry.get("auth.rate-limit.requests")
+                .tag("endpoint", ENDPOINT)
+                .tag("key", key)
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private static RateLimitProperties.BucketSpec bucket(long capacity, Duration refillPeriod) {
+        var spec = new RateLimitProperties.BucketSpec();
+        spec.setCapacity(capacity);
+        spec.setRefillPeriod(refillPeriod);
+        return spec;
+    }
+}
@@ -0,0 +1,116 @@
+package tech.nuqta.taskmanagement.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTests {
+    private static final int MAX_BODY_SIZE = 256;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        var perIp = new RateLimitProperties.BucketSpec();
+        perIp.setCapacity(10);
+        perIp.setRefillPeriod(Duration.ofMinutes(1));
+        var perAccount = new RateLimitProperties.BucketSpec();
+        perAccount.setCapacity(1);
+        perAccount.setRefillPeriod(Duration.ofMinutes(1));
+        var limits = new RateLimitProperties.EndpointLimits();
+        limits.setPerIp(perIp);
+        limits.setPerAccount(perAccount);
+        var properties = new RateLimitProperties();
+        properties.setEndpoints(Map.of("authenticate", limits));
+        long now = TimeUnit.HOURS.toNanos(1);
+        var rateLimiter = new AuthRateLimiter(properties, new SimpleMeterRegistry(), () -> now);
+        filter = new RateLimitFilter(rateLimiter, objectMapper, MAX_BODY_SIZE);
+    }
+
+    @Test
+    void passesBodyOnToController() throws Exception {
+        var body = "{\"email\":\"user@example.com\",\"password\":\"secret\"}";
+        var chain = new MockFilterChain();
+
+        filter.doFilter(authenticate(body), new MockHttpServletResponse(), chain);
+
+        var forwarded = chain.getRequest().getInputStream().readAllBytes();
+        assertThat(new String(forwarded, StandardCharsets.UTF_8)).isEqualTo(body);
+    }
+
+    @Test
+    void rejectsRepeatedAttemptsOnSameAccountWithRetryAfter() throws Exception {
+        filter.doFilter(authenticate("{\"email\":\"user@example.com\"}"), new MockHttpServletResponse(), new MockFilterChain());
+
+        var response = new MockHttpServletResponse();
+        var chain = new MockFilterChain();
+        filter.doFilter(authenticate("{\"email\":\" USER@example.com \"}"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("60");
+        assertThat(objectMapper.readTree(response.getContentAsString()).path("errorCode").asInt()).isEqualTo(308);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void rejectsOversizedBodyWithoutReadingIt() throws Exception {
+        var request = authenticate("{\"email\":\"user@example.com\",\"padding\":\"" + "x".repeat(MAX_BODY_SIZE) + "\"}");
+        var response = new MockHttpServletResponse();
+        var chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(objectMapper.readTree(response.getContentAsString()).path("errorCode").asInt()).isEqualTo(311);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void rejectsOversizedBodyWithoutContentLength() throws Exception {
+        var request = new MockHttpServletRequest("POST", "/api/v1/auth/authenticate") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setServletPath("/api/v1/auth/authenticate");
+        request.setContent(new byte[MAX_BODY_SIZE + 1]);
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(413);
+    }
+
+    @Test
+    void ignoresOtherMethodsAndPaths() throws Exception {
+        var request = new MockHttpServletRequest("GET", "/api/v1/auth/authenticate");
+        request.setServletPath("/api/v1/auth/authenticate");
+        var chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    private static MockHttpServletRequest authenticate(String body) {
+        var request = new MockHttpServletRequest("POST", "/api/v1/auth/authenticate");
+        request.setServletPath("/api/v1/auth/authenticate");
+        request.setRemoteAddr("10.0.0.1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,46 @@
+package tech.nuqta.taskmanagement.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTests {
+    private static final long START = TimeUnit.HOURS.toNanos(1);
+
+    @Test
+    void allowsBurstUpToCapacity() {
+        var bucket = new TokenBucket(5, Duration.ofMinutes(1), START);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryConsume(START)).isZero();
+        }
+        assertThat(bucket.tryConsume(START)).isEqualTo(TimeUnit.SECONDS.toNanos(12));
+    }
+
+    @Test
+    void refillsOneTokenPerEmissionInterval() {
+        var bucket = new TokenBucket(5, Duration.ofMinutes(1), START);
+        for (int i = 0; i < 5; i++) {
+            bucket.tryConsume(START);
+        }
+
+        long oneTokenLater = START + TimeUnit.SECONDS.toNanos(12);
+        assertThat(bucket.tryConsume(oneTokenLater - 1)).isEqualTo(1);
+        assertThat(bucket.tryConsume(oneTokenLater)).isZero();
+        assertThat(bucket.tryConsume(oneTokenLater)).isPositive();
+    }
+
+    @Test
+    void doesNotSaveUpMoreThanCapacity() {
+        var bucket = new TokenBucket(3, Duration.ofMinutes(1), START);
+
+        long muchLater = START + TimeUnit.HOURS.toNanos(1);
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryConsume(muchLater)).isZero();
+        }
+        assertThat(bucket.tryConsume(muchLater)).isPositive();
+    }
+}
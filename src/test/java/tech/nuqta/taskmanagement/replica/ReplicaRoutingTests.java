@@ -0,0 +1,123 @@
+package tech.nuqta.taskmanagement.replica;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against the two PostgreSQL instances from {@code docker-compose}: the primary on port 5433
+ * and a second server on port 5434 standing in for a replica. A third replica points at a closed port.
+ * Each server is recognized by its system identifier, so the tests do not need the schema on the replica.
+ */
+@SpringBootTest(properties = {
+        "application.mailing.outbox.enabled=false",
+        "application.replica.enabled=true",
+        "application.replica.health-check-interval=PT1H",
+        "application.replica.nodes[0].name=replica-1",
+        "application.replica.nodes[0].url=" + ReplicaRoutingTests.REPLICA_URL,
+        "application.replica.nodes[1].name=unreachable",
+        "application.replica.nodes[1].url=jdbc:postgresql://localhost:1/task-management"
+})
+class ReplicaRoutingTests {
+    static final String REPLICA_URL = "jdbc:postgresql://localhost:5434/task-management";
+    private static final String SERVER_ID = "SELECT system_identifier FROM pg_control_system()";
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ReplicaPool replicaPool;
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    private long primaryId;
+    private long replicaId;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primaryId = serverId(dataSourceProperties.getUrl());
+        replicaId = serverId(REPLICA_URL);
+        replicaPool.checkHealth();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToReplica() {
+        assertThat(readOnly()).isEqualTo(replicaId);
+        assertThat(readWrite()).isEqualTo(primaryId);
+    }
+
+    @Test
+    void takesUnreachableReplicaOutOfRotation() {
+        assertThat(replicaPool.replicas())
+                .filteredOn(ReplicaPool.Replica::isHealthy)
+                .extracting(ReplicaPool.Replica::name)
+                .containsExactly("replica-1");
+        for (int i = 0; i < 4; i++) {
+            assertThat(readOnly()).isEqualTo(replicaId);
+        }
+    }
+
+    @Test
+    void readsOwnWritesFromPrimary() {
+        signIn("writer-" + UUID.randomUUID() + "@example.com");
+        assertThat(readWrite()).isEqualTo(primaryId);
+        assertThat(readOnly()).isEqualTo(primaryId);
+
+        signIn("reader-" + UUID.randomUUID() + "@example.com");
+        assertThat(readOnly()).isEqualTo(replicaId);
+    }
+
+    @Test
+    void fallsBackToPrimaryWithoutHealthyReplica() {
+        replicaPool.replicas().forEach(replica -> replicaPool.markDown(replica, new SQLException("Stopped by test")));
+
+        assertThat(readOnly()).isEqualTo(primaryId);
+    }
+
+    private long readOnly() {
+        var template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> jdbcTemplate.queryForObject(SERVER_ID, Long.class));
+    }
+
+    private long readWrite() {
+        return new TransactionTemplate(transactionManager)
+                .execute(status -> jdbcTemplate.queryForObject(SERVER_ID, Long.class));
+    }
+
+    private long serverId(String url) throws SQLException {
+        try (var connection = DriverManager.getConnection(url,
+                dataSourceProperties.getUsername(), dataSourceProperties.getPassword());
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery(SERVER_ID)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void signIn(String email) {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+}
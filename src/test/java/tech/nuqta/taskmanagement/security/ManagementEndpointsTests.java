@@ -0,0 +1,41 @@
+package tech.nuqta.taskmanagement.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "application.mailing.outbox.enabled=false"
+)
+class ManagementEndpointsTests {
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    void healthAndPrometheusAreOpenWithoutToken() throws Exception {
+        assertThat(get("/actuator/health").statusCode()).isEqualTo(200);
+        var scrape = get("/actuator/prometheus");
+        assertThat(scrape.statusCode()).isEqualTo(200);
+        assertThat(scrape.body()).contains("jvm_memory_used_bytes");
+    }
+
+    @Test
+    void otherEndpointsRequireToken() throws Exception {
+        assertThat(get("/actuator/metrics").statusCode()).isEqualTo(401);
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + managementPort + path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
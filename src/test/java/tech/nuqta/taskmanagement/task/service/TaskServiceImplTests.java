@@ -0,0 +1,119 @@
+package tech.nuqta.taskmanagement.task.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.nuqta.taskmanagement.compression.CompressedText;
+import tech.nuqta.taskmanagement.enums.RoleName;
+import tech.nuqta.taskmanagement.enums.TaskPriority;
+import tech.nuqta.taskmanagement.enums.TaskStatus;
+import tech.nuqta.taskmanagement.exception.AppBadRequestException;
+import tech.nuqta.taskmanagement.task.dto.TaskLookupResult;
+import tech.nuqta.taskmanagement.task.entity.TaskEntity;
+import tech.nuqta.taskmanagement.task.repository.TaskRepository;
+import tech.nuqta.taskmanagement.user.entity.User;
+import tech.nuqta.taskmanagement.user.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "application.mailing.outbox.enabled=false")
+class TaskServiceImplTests {
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = transactionTemplate.execute(status -> userRepository.save(User.builder()
+                .firstname("Lookup")
+                .lastname("Test")
+                .email("lookup-" + UUID.randomUUID() + "@example.com")
+                .password("unused")
+                .enabled(true)
+                .accountLocked(false)
+                .roleMask(RoleName.USER.getMask())
+                .build()));
+    }
+
+    @Test
+    void getTasksByIdsMixesCachedLoadedAndMissingTasks() {
+        var cached = task();
+        var loaded = task();
+        long missing = -1L;
+        taskService.getTasksByIds(List.of(cached.getId()));
+        assertThat(cacheManager.getCache("tasks").get(loaded.getId())).isNull();
+
+        var results = lookup(List.of(loaded.getId(), missing, cached.getId()));
+
+        assertThat(results).extracting(TaskLookupResult::id).containsExactly(loaded.getId(), missing, cached.getId());
+        assertThat(results).extracting(TaskLookupResult::found).containsExactly(true, false, true);
+        assertThat(results.get(0).task().id()).isEqualTo(loaded.getId());
+        assertThat(results.get(1).task()).isNull();
+        assertThat(cacheManager.getCache("tasks").get(loaded.getId())).isNotNull();
+    }
+
+    @Test
+    void getTasksByIdsAnswersEveryDuplicate() {
+        var task = task();
+
+        var results = lookup(List.of(task.getId(), task.getId(), task.getId()));
+
+        assertThat(results).hasSize(3).allSatisfy(result -> {
+            assertThat(result.found()).isTrue();
+            assertThat(result.task().id()).isEqualTo(task.getId());
+        });
+    }
+
+    @Test
+    void getTasksByIdsAcceptsUpToTheLimit() {
+        var ids = LongStream.rangeClosed(1, TaskServiceImpl.MAX_MULTI_GET_IDS).map(i -> -i).boxed().toList();
+
+        assertThat(lookup(ids)).hasSize(TaskServiceImpl.MAX_MULTI_GET_IDS).noneMatch(TaskLookupResult::found);
+    }
+
+    @Test
+    void getTasksByIdsRejectsNoIdsTooManyIdsAndEmptyIds() {
+        var tooMany = LongStream.rangeClosed(0, TaskServiceImpl.MAX_MULTI_GET_IDS).boxed().toList();
+        var withEmpty = new ArrayList<>(Arrays.asList(1L, null, 2L));
+
+        assertThatThrownBy(() -> taskService.getTasksByIds(List.of())).isInstanceOf(AppBadRequestException.class);
+        assertThatThrownBy(() -> taskService.getTasksByIds(tooMany)).isInstanceOf(AppBadRequestException.class);
+        assertThatThrownBy(() -> taskService.getTasksByIds(withEmpty)).isInstanceOf(AppBadRequestException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TaskLookupResult> lookup(List<Long> ids) {
+        return (List<TaskLookupResult>) taskService.getTasksByIds(ids).getData();
+    }
+
+    private TaskEntity task() {
+        var task = new TaskEntity();
+        task.setTitle("Lookup test task");
+        task.setDescription(CompressedText.of("Lookup test task"));
+        task.setStatus(TaskStatus.OPEN);
+        task.setPriority(TaskPriority.values()[0]);
+        task.setAuthor(user);
+        task.setAssignee(user);
+        task.setCreatedBy(user.getId());
+        return transactionTemplate.execute(s -> taskRepository.save(task));
+    }
+}